@@ -36,6 +36,16 @@ javac -d bin -encoding UTF-8 $JAVA_FILES
 # Verificar resultado
 if [ $? -eq 0 ]; then
     echo -e "${GREEN}✓ Compilación exitosa${NC}"
+    
+    # Núcleos SIMD opcionales (requieren el módulo jdk.incubator.vector, JDK 16+)
+    SIMD_FILES=$(find src-simd -name "*.java" 2>/dev/null)
+    if [ -n "$SIMD_FILES" ] && javac -d bin -cp bin -encoding UTF-8 \
+            --add-modules jdk.incubator.vector $SIMD_FILES 2>/dev/null; then
+        echo -e "${GREEN}✓ Núcleos SIMD (Vector API) compilados${NC}"
+        echo "  Para usarlos: java --add-modules jdk.incubator.vector -cp bin Main"
+    else
+        echo -e "${YELLOW}⚠ Vector API no disponible: se usarán núcleos escalares${NC}"
+    fi
     echo ""
     echo "Archivos compilados:"
     find bin -name "*.class" | wc -l
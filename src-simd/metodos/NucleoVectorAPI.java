@@ -0,0 +1,88 @@
+package metodos;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Núcleos con la Vector API (SIMD explícito)
+ * 
+ * SPECIES_PREFERRED elige en tiempo de ejecución el ancho de vector de la
+ * CPU: 4 doubles con AVX2, 8 con AVX-512. Requiere compilar y ejecutar con
+ * --add-modules jdk.incubator.vector (ver scripts/compilar.sh).
+ */
+class NucleoVectorAPI implements NucleoVectorial {
+    private static final VectorSpecies<Double> ESPECIE = DoubleVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Float> ESPECIE_SIMPLE = FloatVector.SPECIES_PREFERRED;
+    
+    @Override
+    public void axpy(double a, double[] x, int ox, double[] y, int oy, int largo) {
+        int i = 0;
+        int limite = ESPECIE.loopBound(largo);
+        DoubleVector va = DoubleVector.broadcast(ESPECIE, a);
+        for (; i < limite; i += ESPECIE.length()) {
+            DoubleVector vx = DoubleVector.fromArray(ESPECIE, x, ox + i);
+            DoubleVector vy = DoubleVector.fromArray(ESPECIE, y, oy + i);
+            vx.fma(va, vy).intoArray(y, oy + i);
+        }
+        for (; i < largo; i++) {
+            y[oy + i] += a * x[ox + i];
+        }
+    }
+    
+    @Override
+    public double producto(double[] x, int ox, double[] y, int oy, int largo) {
+        int i = 0;
+        int limite = ESPECIE.loopBound(largo);
+        DoubleVector acumulado = DoubleVector.zero(ESPECIE);
+        for (; i < limite; i += ESPECIE.length()) {
+            DoubleVector vx = DoubleVector.fromArray(ESPECIE, x, ox + i);
+            DoubleVector vy = DoubleVector.fromArray(ESPECIE, y, oy + i);
+            acumulado = vx.fma(vy, acumulado);
+        }
+        double suma = acumulado.reduceLanes(VectorOperators.ADD);
+        for (; i < largo; i++) {
+            suma += x[ox + i] * y[oy + i];
+        }
+        return suma;
+    }
+    
+    @Override
+    public void axpy(float a, float[] x, int ox, float[] y, int oy, int largo) {
+        int i = 0;
+        int limite = ESPECIE_SIMPLE.loopBound(largo);
+        FloatVector va = FloatVector.broadcast(ESPECIE_SIMPLE, a);
+        for (; i < limite; i += ESPECIE_SIMPLE.length()) {
+            FloatVector vx = FloatVector.fromArray(ESPECIE_SIMPLE, x, ox + i);
+            FloatVector vy = FloatVector.fromArray(ESPECIE_SIMPLE, y, oy + i);
+            vx.fma(va, vy).intoArray(y, oy + i);
+        }
+        for (; i < largo; i++) {
+            y[oy + i] += a * x[ox + i];
+        }
+    }
+    
+    @Override
+    public float producto(float[] x, int ox, float[] y, int oy, int largo) {
+        int i = 0;
+        int limite = ESPECIE_SIMPLE.loopBound(largo);
+        FloatVector acumulado = FloatVector.zero(ESPECIE_SIMPLE);
+        for (; i < limite; i += ESPECIE_SIMPLE.length()) {
+            FloatVector vx = FloatVector.fromArray(ESPECIE_SIMPLE, x, ox + i);
+            FloatVector vy = FloatVector.fromArray(ESPECIE_SIMPLE, y, oy + i);
+            acumulado = vx.fma(vy, acumulado);
+        }
+        float suma = acumulado.reduceLanes(VectorOperators.ADD);
+        for (; i < largo; i++) {
+            suma += x[ox + i] * y[oy + i];
+        }
+        return suma;
+    }
+    
+    @Override
+    public String getNombre() {
+        return "Vector API (" + ESPECIE.vectorBitSize() + " bits, "
+            + ESPECIE.length() + " doubles)";
+    }
+}
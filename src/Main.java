@@ -1,5 +1,7 @@
 import circuitos.Circuito;
+import circuitos.GeneradorCircuitos;
 import metodos.*;
+import monitores.MonitorAsignacion;
 import monitores.MonitorSistema;
 import planificadores.*;
 
@@ -24,6 +26,9 @@ public class Main {
             System.out.println("  --medio      : Solo circuito medio con 3 planificadores");
             System.out.println("  --complejo   : Solo circuito complejo con 3 planificadores");
             System.out.println("  --mix        : Solo escenario mix");
+            System.out.println("  --asignacion : Verifica que los motores no asignen memoria");
+            System.out.println("  --pivoteo    : Verifica los residuos con un sistema que obliga a pivotear");
+            System.out.println("  --calibrar   : Calibra el modelo de costo del método adaptativo en esta máquina");
             System.out.println("  --todo       : Ejecutar todo (por defecto)");
             return;
         }
@@ -40,6 +45,12 @@ public class Main {
             probarSoloCircuito("complejo");
         } else if (opcion.equals("--mix")) {
             probarSoloMix();
+        } else if (opcion.equals("--asignacion")) {
+            verificarAsignacion();
+        } else if (opcion.equals("--pivoteo")) {
+            verificarPivoteo();
+        } else if (opcion.equals("--calibrar")) {
+            calibrarModelo();
         } else if (opcion.equals("--todo")) {
             pruebaCompleta();
         } else {
@@ -112,7 +123,7 @@ public class Main {
         fcfs.agregarTarea(new GaussJordan(), circuito);
         fcfs.agregarTarea(new Cramer(), circuito);
         fcfs.agregarTarea(new LibreriaNumerica(), circuito);
-        fcfs.ejecutar();
+        ejecutarSinCache(fcfs);
         
         // PLANIFICADOR 2: Round Robin
         System.out.println("\n┌─────────────────────────────────────┐");
@@ -123,7 +134,7 @@ public class Main {
         rr.agregarTarea(new GaussJordan(), circuito);
         rr.agregarTarea(new Cramer(), circuito);
         rr.agregarTarea(new LibreriaNumerica(), circuito);
-        rr.ejecutar();
+        ejecutarSinCache(rr);
         
         // PLANIFICADOR 3: SJF
         System.out.println("\n┌─────────────────────────────────────┐");
@@ -134,12 +145,22 @@ public class Main {
         sjf.agregarTarea(new GaussJordan(), circuito);
         sjf.agregarTarea(new Cramer(), circuito);
         sjf.agregarTarea(new LibreriaNumerica(), circuito);
-        sjf.ejecutar();
+        ejecutarSinCache(sjf);
         
         // Comparar resultados
         compararPlanificadores(fcfs, rr, sjf);
     }
     
+    /**
+     * Ejecuta el planificador con la caché de factorizaciones vacía: si no, los
+     * que corren después resuelven con las factorizaciones de los anteriores y
+     * la comparación deja de ser justa
+     */
+    private static void ejecutarSinCache(Planificador planificador) {
+        LibreriaNumerica.getCache().limpiar();
+        planificador.ejecutar();
+    }
+    
     /**
      * Prueba con mix de complejidades
      */
@@ -151,14 +172,14 @@ public class Main {
         fcfs.agregarTarea(new Cramer(), complejo);        // Lento
         fcfs.agregarTarea(new GaussJordan(), simple);     // Rápido
         fcfs.agregarTarea(new LibreriaNumerica(), medio); // Medio
-        fcfs.ejecutar();
+        ejecutarSinCache(fcfs);
         
         // SJF (debería reordenar para ejecutar rápidos primero)
         Planificador sjf = new SJF();
         sjf.agregarTarea(new Cramer(), complejo);        // Lento
         sjf.agregarTarea(new GaussJordan(), simple);     // Rápido
         sjf.agregarTarea(new LibreriaNumerica(), medio); // Medio
-        sjf.ejecutar();
+        ejecutarSinCache(sjf);
         
         compararPlanificadores(fcfs, null, sjf);
     }
@@ -245,7 +266,8 @@ public class Main {
         MetodoResolucion[] metodos = {
             new GaussJordan(),
             new Cramer(),
-            new LibreriaNumerica()
+            new LibreriaNumerica(),
+            new MetodoAdaptativo()
         };
         
         for (MetodoResolucion metodo : metodos) {
@@ -305,4 +327,140 @@ public class Main {
 
         probarPlanificadoresMix(simple, medio, complejo);
     }
+
+    /**
+     * Verifica que los motores sin estado no asignen memoria en régimen estable
+     */
+    private static void verificarAsignacion() {
+        System.out.println("=== VERIFICACIÓN DE ASIGNACIONES ===\n");
+
+        if (!MonitorAsignacion.estaDisponible()) {
+            System.out.println("La JVM no permite medir asignaciones por hilo");
+            return;
+        }
+
+        Circuito circuito = Circuito.generarCircuitoComplejo();
+        double[][] coeficientes = circuito.getCoeficientes();
+        MatrizPlana plana = MatrizPlana.desde(coeficientes);
+        double[] b = circuito.getTerminosIndep();
+        double[] x = new double[circuito.getNumMallas()];
+
+        MotorResolucion[] motores = {
+            new MotorGaussJordan(),
+            new MotorLU(),
+            new MotorCramer()
+        };
+
+        boolean todosSinAsignar = true;
+        for (MotorResolucion motor : motores) {
+            // Calentamiento: que el JIT compile el camino caliente
+            for (int i = 0; i < 20_000; i++) {
+                motor.resolver(plana, b, x);
+                motor.resolver(coeficientes, b, x);
+            }
+
+            long bytes = MonitorAsignacion.medir(() -> {
+                for (int i = 0; i < 1_000; i++) {
+                    motor.resolver(plana, b, x);
+                    motor.resolver(coeficientes, b, x);
+                }
+            });
+
+            todosSinAsignar &= bytes == 0;
+            System.out.printf("%-22s %s (%d bytes en 2000 resoluciones)\n",
+                motor.getNombre(), bytes == 0 ? "✓ Sin asignaciones" : "✗ Asigna memoria", bytes);
+        }
+
+        System.out.println("\nNúcleo vectorial: " + Nucleos.getNombre());
+        System.out.println(todosSinAsignar ? "\n✓ Verificación superada" : "\n✗ Verificación fallida");
+    }
+
+    /**
+     * Verifica el residuo ‖A·x - b‖∞ de cada método con coeficientes aleatorios
+     * sin dominancia diagonal, donde el pivoteo parcial intercambia filas
+     */
+    private static void verificarPivoteo() {
+        System.out.println("=== VERIFICACIÓN CON PIVOTEO ===\n");
+
+        int n = 50;
+        java.util.Random azar = new java.util.Random(12345);
+        Circuito circuito = new Circuito(n, "ALEATORIO", "Aleatorio-" + n);
+        double[][] A = circuito.getCoeficientes();
+        double[] b = circuito.getTerminosIndep();
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                A[i][j] = azar.nextDouble() * 2 - 1;
+            }
+            b[i] = azar.nextDouble() * 2 - 1;
+        }
+
+        MetodoResolucion[] metodos = {
+            new GaussJordan(),
+            new GaussJordanParalelo(),
+            new LibreriaNumerica(),
+            new LUPrecisionMixta(),
+            new LUDispersa(1.0),
+            new LUFueraDeNucleo(16 * 1024, null),
+            new LUFueraDeNucleo()
+        };
+
+        boolean todosCorrectos = true;
+        for (MetodoResolucion metodo : metodos) {
+            double residuo;
+            try {
+                double[] x = metodo.resolver(circuito);
+                residuo = 0.0;
+                for (int i = 0; i < n; i++) {
+                    double suma = -b[i];
+                    for (int j = 0; j < n; j++) {
+                        suma += A[i][j] * x[j];
+                    }
+                    residuo = Math.max(residuo, Math.abs(suma));
+                }
+            } catch (RuntimeException e) {
+                residuo = Double.NaN;
+            }
+            boolean correcto = residuo < 1e-9;
+            todosCorrectos &= correcto;
+            System.out.printf("%-22s %s (residuo %.2e)\n",
+                metodo.getNombre(), correcto ? "✓" : "✗", residuo);
+        }
+
+        System.out.println(todosCorrectos ? "\n✓ Verificación superada" : "\n✗ Verificación fallida");
+    }
+
+    /**
+     * Resuelve muestras densas, simétricas y dispersas con cada candidato para
+     * ajustar los ns/flop del modelo de costo a esta máquina (la calibración
+     * no es automática: sin esta opción el modelo parte de los valores de
+     * referencia y solo se ajusta con las resoluciones del método adaptativo)
+     */
+    private static void calibrarModelo() {
+        System.out.println("=== CALIBRACIÓN DEL MODELO DE COSTO ===\n");
+        System.out.println("Antes:\n" + MetodoAdaptativo.getModelo() + "\n");
+
+        Circuito[] muestras = {
+            GeneradorCircuitos.conSemilla(1).mallas(150).anchoBanda(149).simetrico(false)
+                .nombre("Muestra-Densa-150").generar(),
+            GeneradorCircuitos.conSemilla(2).mallas(200).anchoBanda(199)
+                .nombre("Muestra-Simetrica-200").generar(),
+            GeneradorCircuitos.conSemilla(3).mallas(20000).anchoBanda(40).densidad(0.1)
+                .nombre("Muestra-Dispersa-20000").generarDisperso()
+        };
+
+        // El modelo es un promedio móvil: unas pocas rondas lo acercan a lo medido
+        for (Circuito muestra : muestras) {
+            long inicio = System.nanoTime();
+            for (int ronda = 0; ronda < 3; ronda++) {
+                MetodoAdaptativo.calibrar(muestra);
+            }
+            System.out.printf("%-24s %d ms\n", muestra.getNombre(), (System.nanoTime() - inicio) / 1_000_000);
+        }
+
+        System.out.println("\nDespués:\n" + MetodoAdaptativo.getModelo() + "\n");
+
+        MetodoAdaptativo adaptativo = new MetodoAdaptativo();
+        adaptativo.setCircuito(Circuito.generarCircuitoComplejo());
+        adaptativo.run();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,321 @@
+package circuitos;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+/**
+ * Formato binario de circuitos, pensado para abrirse con FileChannel.map
+ *
+ * Estructura (little-endian, regiones alineadas a 8 bytes):
+ *   cabecera de 96 bytes   tipo, n, no nulos, posición de cada región, checksums
+ *   nombre y complejidad   UTF-8
+ *   valores                denso: n·n doubles por filas; disperso: nnz doubles
+ *   filas, columnas        solo disperso: n + 1 y nnz enteros (CSR)
+ *   términos independientes n doubles
+ *
+ * Los checksums son CRC32C: uno de la cabecera (se verifica siempre) y otro
+ * de todo lo demás (opcional al abrir, porque obliga a leer el archivo
+ * entero). Al abrir un circuito denso, la matriz se mapea en modo copia al
+ * escribir (los cambios no llegan al archivo) y se envuelve en una
+ * MatrizFueraHeap sin copiarla: una matriz de 1 GB abre al instante y sus
+ * páginas se cargan a medida que se leen.
+ */
+public final class ArchivoCircuito {
+    static final int BYTES_CABECERA = 96;
+    private static final int MAGIA = 0x43524943; // "CIRC"
+    private static final short VERSION = 1;
+    private static final long BYTES_MAX_REGION = 1L << 30;
+    
+    private ArchivoCircuito() {
+    }
+    
+    /**
+     * Guarda el circuito con el almacenamiento que ya tiene (disperso o denso)
+     */
+    public static Path guardar(Circuito circuito, Path archivo) throws IOException {
+        return guardar(circuito, archivo, circuito.esDisperso());
+    }
+    
+    /**
+     * Guarda el circuito eligiendo el formato de los coeficientes
+     * @param disperso true para CSR (se descartan los ceros), false para denso
+     */
+    public static Path guardar(Circuito circuito, Path archivo, boolean disperso) throws IOException {
+        int n = circuito.getNumMallas();
+        DestinoCoeficientes<Path> destino = destino(archivo, disperso);
+        double[] b = circuito.getTerminosIndep();
+        int[] columnas = new int[n];
+        double[] valores = new double[n];
+        
+        try {
+            destino.iniciar(n, circuito.getComplejidad(), circuito.getNombre());
+            if (circuito.esDisperso()) {
+                MatrizCSR A = circuito.getCoeficientesDispersos();
+                int[] filas = A.getFilas();
+                for (int i = 0; i < n; i++) {
+                    int cantidad = filas[i + 1] - filas[i];
+                    System.arraycopy(A.getColumnas(), filas[i], columnas, 0, cantidad);
+                    System.arraycopy(A.getValores(), filas[i], valores, 0, cantidad);
+                    destino.agregarFila(i, columnas, valores, cantidad, b[i]);
+                }
+            } else {
+                double[] fila = new double[n];
+                for (int i = 0; i < n; i++) {
+                    if (circuito.esFueraHeap()) {
+                        circuito.getCoeficientesFueraHeap().leerFila(i, 0, fila, 0, n);
+                    } else {
+                        System.arraycopy(circuito.getCoeficientes()[i], 0, fila, 0, n);
+                    }
+                    int cantidad = 0;
+                    for (int j = 0; j < n; j++) {
+                        if (fila[j] != 0.0) {
+                            columnas[cantidad] = j;
+                            valores[cantidad++] = fila[j];
+                        }
+                    }
+                    destino.agregarFila(i, columnas, valores, cantidad, b[i]);
+                }
+            }
+            return destino.terminar();
+        } catch (UncheckedIOException e) {
+            destino.abortar();
+            throw e.getCause();
+        } catch (RuntimeException e) {
+            destino.abortar();
+            throw e;
+        }
+    }
+    
+    /**
+     * Destino que escribe el archivo fila por fila, para generadores y lectores
+     * (los errores de E/S llegan como UncheckedIOException)
+     */
+    public static DestinoCoeficientes<Path> destino(Path archivo, boolean disperso) {
+        return new DestinoArchivo(archivo, disperso);
+    }
+    
+    /**
+     * Abre el archivo verificando solo la cabecera
+     */
+    public static Circuito abrir(Path archivo) throws IOException {
+        return abrir(archivo, false);
+    }
+    
+    /**
+     * Abre el archivo. Denso: coeficientes mapeados fuera del heap (quien lo usa
+     * debe cerrar la matriz); disperso: arreglos CSR copiados en bloque al heap.
+     * @param verificarDatos Si es true, calcula el CRC32C de todo el contenido
+     * @throws IOException si el archivo no tiene el formato o el checksum no coincide
+     */
+    public static Circuito abrir(Path archivo, boolean verificarDatos) throws IOException {
+        // El mapeo con copia al escribir exige abrir para escritura, aunque nunca toca el archivo
+        boolean escribible = Files.isWritable(archivo);
+        try (FileChannel canal = escribible
+                ? FileChannel.open(archivo, StandardOpenOption.READ, StandardOpenOption.WRITE)
+                : FileChannel.open(archivo, StandardOpenOption.READ)) {
+            Cabecera c = leerCabecera(canal);
+            if (verificarDatos) {
+                verificarDatos(canal, c);
+            }
+            
+            ByteBuffer meta = mapear(canal, FileChannel.MapMode.READ_ONLY, BYTES_CABECERA,
+                c.largoNombre + c.largoComplejidad);
+            byte[] texto = new byte[c.largoNombre + c.largoComplejidad];
+            meta.get(texto);
+            MatrizFueraHeap.liberar(meta);
+            String nombre = new String(texto, 0, c.largoNombre, StandardCharsets.UTF_8);
+            String complejidad = new String(texto, c.largoNombre, c.largoComplejidad, StandardCharsets.UTF_8);
+            
+            Circuito circuito;
+            if (c.disperso) {
+                int[] filas = new int[c.n + 1];
+                int[] columnas = new int[(int) c.noNulos];
+                double[] valores = new double[(int) c.noNulos];
+                leerEnteros(canal, c.offsetFilas, filas);
+                leerEnteros(canal, c.offsetColumnas, columnas);
+                leerDoubles(canal, c.offsetValores, valores);
+                circuito = new Circuito(new MatrizCSR(c.n, filas, columnas, valores), complejidad, nombre);
+            } else {
+                FileChannel.MapMode modo = escribible ? FileChannel.MapMode.PRIVATE : FileChannel.MapMode.READ_ONLY;
+                circuito = new Circuito(mapearDensa(canal, c, modo), complejidad, nombre);
+            }
+            leerDoubles(canal, c.offsetTerminos, circuito.getTerminosIndep());
+            return circuito;
+        }
+    }
+    
+    /**
+     * Recalcula el CRC32C del contenido completo
+     * @throws IOException si el archivo está dañado
+     */
+    public static void verificar(Path archivo) throws IOException {
+        try (FileChannel canal = FileChannel.open(archivo, StandardOpenOption.READ)) {
+            verificarDatos(canal, leerCabecera(canal));
+        }
+    }
+    
+    /**
+     * Mapea la matriz densa en regiones de filas completas de hasta 1 GB.
+     * Con un procesador big-endian no se puede usar el mapeo tal cual y se copia.
+     * @param modo PRIVATE (las escrituras quedan en memoria) o READ_ONLY si el
+     *             archivo no admite escritura (la matriz queda de solo lectura)
+     */
+    private static MatrizFueraHeap mapearDensa(FileChannel canal, Cabecera c, FileChannel.MapMode modo)
+            throws IOException {
+        int n = c.n;
+        int filasPorSegmento = MatrizFueraHeap.filasPorSegmento(n);
+        
+        if (ByteOrder.nativeOrder() != ByteOrder.LITTLE_ENDIAN) {
+            MatrizFueraHeap m = MatrizFueraHeap.asignar(n);
+            double[] fila = new double[n];
+            for (int i = 0; i < n; i++) {
+                leerDoubles(canal, c.offsetValores + 8L * n * i, fila);
+                m.escribirFila(i, 0, fila, 0, n);
+            }
+            return m;
+        }
+        
+        int cantidad = n == 0 ? 0 : (n + filasPorSegmento - 1) / filasPorSegmento;
+        ByteBuffer[] segmentos = new ByteBuffer[cantidad];
+        for (int s = 0; s < cantidad; s++) {
+            int filas = Math.min(filasPorSegmento, n - s * filasPorSegmento);
+            long desde = c.offsetValores + 8L * n * s * filasPorSegmento;
+            segmentos[s] = mapear(canal, modo, desde, 8L * n * filas);
+        }
+        return MatrizFueraHeap.envolver(n, segmentos, filasPorSegmento);
+    }
+    
+    private static MappedByteBuffer mapear(FileChannel canal, FileChannel.MapMode modo, long desde, long largo)
+            throws IOException {
+        MappedByteBuffer region = canal.map(modo, desde, largo);
+        region.order(ByteOrder.LITTLE_ENDIAN);
+        return region;
+    }
+    
+    private static void leerDoubles(FileChannel canal, long desde, double[] destino) throws IOException {
+        int porRegion = (int) (BYTES_MAX_REGION / Double.BYTES);
+        for (int k = 0; k < destino.length; k += porRegion) {
+            int cantidad = Math.min(porRegion, destino.length - k);
+            MappedByteBuffer region = mapear(canal, FileChannel.MapMode.READ_ONLY,
+                desde + 8L * k, 8L * cantidad);
+            region.asDoubleBuffer().get(destino, k, cantidad);
+            MatrizFueraHeap.liberar(region);
+        }
+    }
+    
+    private static void leerEnteros(FileChannel canal, long desde, int[] destino) throws IOException {
+        int porRegion = (int) (BYTES_MAX_REGION / Integer.BYTES);
+        for (int k = 0; k < destino.length; k += porRegion) {
+            int cantidad = Math.min(porRegion, destino.length - k);
+            MappedByteBuffer region = mapear(canal, FileChannel.MapMode.READ_ONLY,
+                desde + 4L * k, 4L * cantidad);
+            region.asIntBuffer().get(destino, k, cantidad);
+            MatrizFueraHeap.liberar(region);
+        }
+    }
+    
+    private static void verificarDatos(FileChannel canal, Cabecera c) throws IOException {
+        CRC32C crc = new CRC32C();
+        for (long desde = BYTES_CABECERA; desde < c.largoTotal; desde += BYTES_MAX_REGION) {
+            long largo = Math.min(BYTES_MAX_REGION, c.largoTotal - desde);
+            MappedByteBuffer region = canal.map(FileChannel.MapMode.READ_ONLY, desde, largo);
+            crc.update(region);
+            MatrizFueraHeap.liberar(region);
+        }
+        if ((int) crc.getValue() != c.crcDatos) {
+            throw new IOException("El contenido del archivo de circuito está dañado (CRC32C no coincide)");
+        }
+    }
+    
+    /**
+     * Campos de la cabecera
+     */
+    private static final class Cabecera {
+        boolean disperso;
+        int n;
+        long noNulos;
+        long offsetValores;
+        long offsetFilas;
+        long offsetColumnas;
+        long offsetTerminos;
+        long largoTotal;
+        int largoNombre;
+        int largoComplejidad;
+        int crcDatos;
+    }
+    
+    private static Cabecera leerCabecera(FileChannel canal) throws IOException {
+        ByteBuffer bytes = ByteBuffer.allocate(BYTES_CABECERA).order(ByteOrder.LITTLE_ENDIAN);
+        while (bytes.hasRemaining()) {
+            if (canal.read(bytes, bytes.position()) < 0) {
+                throw new IOException("Archivo de circuito incompleto: falta la cabecera");
+            }
+        }
+        bytes.flip();
+        
+        if (bytes.getInt(0) != MAGIA) {
+            throw new IOException("No es un archivo de circuito");
+        }
+        if (bytes.getShort(4) != VERSION) {
+            throw new IOException("Versión de archivo de circuito no soportada: " + bytes.getShort(4));
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(bytes.array(), 0, BYTES_CABECERA - 4);
+        if ((int) crc.getValue() != bytes.getInt(BYTES_CABECERA - 4)) {
+            throw new IOException("La cabecera del archivo de circuito está dañada (CRC32C no coincide)");
+        }
+        
+        Cabecera c = new Cabecera();
+        c.disperso = bytes.get(6) == 1;
+        c.n = bytes.getInt(8);
+        c.noNulos = bytes.getLong(16);
+        c.offsetValores = bytes.getLong(24);
+        c.offsetFilas = bytes.getLong(32);
+        c.offsetColumnas = bytes.getLong(40);
+        c.offsetTerminos = bytes.getLong(48);
+        c.largoTotal = bytes.getLong(56);
+        c.largoNombre = bytes.getInt(64);
+        c.largoComplejidad = bytes.getInt(68);
+        c.crcDatos = bytes.getInt(72);
+        
+        if (canal.size() < c.largoTotal) {
+            throw new IOException("Archivo de circuito truncado: " + canal.size() + " de " + c.largoTotal + " bytes");
+        }
+        return c;
+    }
+    
+    /**
+     * Arma la cabecera con su propio checksum en los últimos 4 bytes
+     */
+    static ByteBuffer cabecera(boolean disperso, int n, long noNulos, long offsetValores, long offsetFilas,
+                               long offsetColumnas, long offsetTerminos, long largoTotal,
+                               int largoNombre, int largoComplejidad, int crcDatos) {
+        ByteBuffer bytes = ByteBuffer.allocate(BYTES_CABECERA).order(ByteOrder.LITTLE_ENDIAN);
+        bytes.putInt(0, MAGIA);
+        bytes.putShort(4, VERSION);
+        bytes.put(6, (byte) (disperso ? 1 : 0));
+        bytes.putInt(8, n);
+        bytes.putLong(16, noNulos);
+        bytes.putLong(24, offsetValores);
+        bytes.putLong(32, offsetFilas);
+        bytes.putLong(40, offsetColumnas);
+        bytes.putLong(48, offsetTerminos);
+        bytes.putLong(56, largoTotal);
+        bytes.putInt(64, largoNombre);
+        bytes.putInt(68, largoComplejidad);
+        bytes.putInt(72, crcDatos);
+        CRC32C crc = new CRC32C();
+        crc.update(bytes.array(), 0, BYTES_CABECERA - 4);
+        bytes.putInt(BYTES_CABECERA - 4, (int) crc.getValue());
+        return bytes;
+    }
+}
\ No newline at end of file
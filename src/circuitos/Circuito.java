@@ -2,13 +2,20 @@ package circuitos;
 
 /**
  * Representa un circuito eléctrico como sistema de ecuaciones lineales
+ * Los coeficientes pueden estar en el heap (double[][]), fuera de él
+ * (MatrizFueraHeap) o comprimidos en formato disperso (MatrizCSR)
  */
 public class Circuito {
     private double[][] coeficientes;
+    private MatrizFueraHeap coeficientesFueraHeap;
+    private MatrizCSR coeficientesDispersos;
     private double[] terminosIndep;
     private int numMallas;
     private String complejidad;
     private String nombre;
+    // Anchos de banda {inferior, superior} ya calculados (-1 = sin calcular);
+    // se comparte con las copias de conTerminosIndep porque la matriz es la misma
+    private final int[] anchoBanda;
     
     public Circuito(int numMallas, String complejidad, String nombre) {
         this.numMallas = numMallas;
@@ -16,6 +23,55 @@ public class Circuito {
         this.nombre = nombre;
         this.coeficientes = new double[numMallas][numMallas];
         this.terminosIndep = new double[numMallas];
+        this.anchoBanda = new int[] {-1, -1};
+    }
+    
+    /**
+     * Circuito con los coeficientes fuera del heap (no se copian)
+     * La matriz sigue perteneciendo a quien la creó, que debe cerrarla
+     */
+    public Circuito(MatrizFueraHeap coeficientes, String complejidad, String nombre) {
+        this.numMallas = coeficientes.getDimension();
+        this.complejidad = complejidad;
+        this.nombre = nombre;
+        this.coeficientesFueraHeap = coeficientes;
+        this.terminosIndep = new double[numMallas];
+        this.anchoBanda = new int[] {-1, -1};
+    }
+    
+    /**
+     * Circuito con coeficientes dispersos: la memoria crece con la cantidad
+     * de componentes y no con mallas², así entran redes de 100k+ mallas
+     */
+    public Circuito(MatrizCSR coeficientes, String complejidad, String nombre) {
+        this.numMallas = coeficientes.getDimension();
+        this.complejidad = complejidad;
+        this.nombre = nombre;
+        this.coeficientesDispersos = coeficientes;
+        this.terminosIndep = new double[numMallas];
+        this.anchoBanda = new int[] {-1, -1};
+    }
+    
+    private Circuito(Circuito original, double[] terminosIndep) {
+        this.numMallas = original.numMallas;
+        this.complejidad = original.complejidad;
+        this.nombre = original.nombre;
+        this.coeficientes = original.coeficientes;
+        this.coeficientesFueraHeap = original.coeficientesFueraHeap;
+        this.coeficientesDispersos = original.coeficientesDispersos;
+        this.terminosIndep = terminosIndep;
+        this.anchoBanda = original.anchoBanda;
+    }
+    
+    /**
+     * Crea un circuito que comparte los coeficientes de este pero con otras fuentes
+     * (no copia la matriz)
+     */
+    public Circuito conTerminosIndep(double[] terminosIndep) {
+        if (terminosIndep.length != numMallas) {
+            throw new IllegalArgumentException("Se esperaban " + numMallas + " términos independientes");
+        }
+        return new Circuito(this, terminosIndep.clone());
     }
     
     /**
@@ -93,8 +149,148 @@ public class Circuito {
         return c;
     }
     
+    /**
+     * Ancho de banda inferior: máxima distancia i - j con coeficiente no nulo
+     * Se calcula una sola vez (ver coeficientesModificados)
+     */
+    public int getAnchoBandaInferior() {
+        if (anchoBanda[0] < 0) {
+            anchoBanda[0] = calcularAnchoInferior();
+        }
+        return anchoBanda[0];
+    }
+    
+    /**
+     * Ancho de banda superior: máxima distancia j - i con coeficiente no nulo
+     * Se calcula una sola vez (ver coeficientesModificados)
+     */
+    public int getAnchoBandaSuperior() {
+        if (anchoBanda[1] < 0) {
+            anchoBanda[1] = calcularAnchoSuperior();
+        }
+        return anchoBanda[1];
+    }
+    
+    /**
+     * Descarta los anchos de banda ya calculados. Quien escriba los
+     * coeficientes (el double[][] de getCoeficientes o la MatrizFueraHeap)
+     * después de que se hayan consultado debe avisar con este método
+     */
+    public void coeficientesModificados() {
+        anchoBanda[0] = -1;
+        anchoBanda[1] = -1;
+    }
+    
+    private int calcularAnchoInferior() {
+        if (coeficientesDispersos != null) {
+            return coeficientesDispersos.getAnchoBandaInferior();
+        }
+        int ancho = 0;
+        for (int i = 0; i < numMallas; i++) {
+            for (int j = 0; j < i - ancho; j++) {
+                if (getCoeficiente(i, j) != 0.0) {
+                    ancho = i - j;
+                    break;
+                }
+            }
+        }
+        return ancho;
+    }
+    
+    private int calcularAnchoSuperior() {
+        if (coeficientesDispersos != null) {
+            return coeficientesDispersos.getAnchoBandaSuperior();
+        }
+        int ancho = 0;
+        for (int i = 0; i < numMallas; i++) {
+            for (int j = numMallas - 1; j > i + ancho; j--) {
+                if (getCoeficiente(i, j) != 0.0) {
+                    ancho = j - i;
+                    break;
+                }
+            }
+        }
+        return ancho;
+    }
+    
+    /**
+     * Indica si conviene tratar el sistema como matriz banda: el almacenamiento
+     * banda (con el espacio extra que exige el pivoteo) debe ocupar como mucho
+     * la mitad de la matriz densa
+     */
+    public boolean esBandeado() {
+        int inferior = getAnchoBandaInferior();
+        int superior = getAnchoBandaSuperior();
+        return (2 * inferior + superior + 1) * 2 <= numMallas;
+    }
+    
+    /**
+     * Coeficiente (i, j) sin importar dónde estén almacenados
+     */
+    public double getCoeficiente(int i, int j) {
+        if (coeficientes != null) return coeficientes[i][j];
+        if (coeficientesDispersos != null) return coeficientesDispersos.get(i, j);
+        return coeficientesFueraHeap.get(i, j);
+    }
+    
+    /**
+     * Indica si los coeficientes están fuera del heap
+     */
+    public boolean esFueraHeap() {
+        return coeficientesFueraHeap != null;
+    }
+    
+    /**
+     * Indica si los coeficientes están en formato disperso
+     */
+    public boolean esDisperso() {
+        return coeficientesDispersos != null;
+    }
+    
+    /**
+     * Coeficientes como double[][]. Si están fuera del heap o dispersos se
+     * devuelve una copia nueva en cada llamada, que no se retiene (por
+     * compatibilidad con los métodos que no los leen directo): conviene pedirla
+     * una sola vez y, si alcanza, usar los accesos fuera del heap o CSR.
+     * En el heap se devuelve la matriz propia: si se modifica después de
+     * consultar la banda hay que llamar a coeficientesModificados
+     */
+    public double[][] getCoeficientes() {
+        if (coeficientes != null) return coeficientes;
+        
+        double[][] copia = new double[numMallas][numMallas];
+        for (int i = 0; i < numMallas; i++) {
+            if (coeficientesDispersos != null) {
+                coeficientesDispersos.leerFila(i, copia[i]);
+            } else {
+                coeficientesFueraHeap.leerFila(i, 0, copia[i], 0, numMallas);
+            }
+        }
+        return copia;
+    }
+    
+    /**
+     * Coeficientes en formato CSR. Si el circuito no es disperso se comprimen
+     * en cada llamada (la matriz densa puede seguir modificándose)
+     */
+    public MatrizCSR getCoeficientesDispersos() {
+        if (coeficientesDispersos != null) return coeficientesDispersos;
+        if (coeficientes != null) return MatrizCSR.desde(coeficientes);
+        
+        MatrizCSR.Ensamblador ensamblador = new MatrizCSR.Ensamblador(numMallas);
+        double[] fila = new double[numMallas];
+        for (int i = 0; i < numMallas; i++) {
+            coeficientesFueraHeap.leerFila(i, 0, fila, 0, numMallas);
+            for (int j = 0; j < numMallas; j++) {
+                if (fila[j] != 0.0) ensamblador.agregar(i, j, fila[j]);
+            }
+        }
+        return ensamblador.construir();
+    }
+    
+    public MatrizFueraHeap getCoeficientesFueraHeap() { return coeficientesFueraHeap; }
+    
     // Getters
-    public double[][] getCoeficientes() { return coeficientes; }
     public double[] getTerminosIndep() { return terminosIndep; }
     public int getNumMallas() { return numMallas; }
     public String getComplejidad() { return complejidad; }
@@ -0,0 +1,207 @@
+package circuitos;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.zip.CRC32C;
+
+/**
+ * Escribe las filas directamente en un archivo con el formato de ArchivoCircuito
+ *
+ * Denso: cada fila se completa con ceros y va al archivo apenas llega.
+ * Disperso: los valores van al archivo apenas llegan; solo las columnas y los
+ * inicios de fila (enteros) esperan en el heap hasta el final.
+ * La cabecera se escribe al terminar, cuando ya se conocen los checksums.
+ * Si algo falla antes, el canal se cierra y el archivo a medio escribir se borra.
+ */
+class DestinoArchivo implements DestinoCoeficientes<Path> {
+    private static final int TAMANO_BUFFER = 1 << 20;
+    
+    private final Path archivo;
+    private final boolean disperso;
+    private FileChannel canal;
+    private ByteBuffer buffer;
+    private CRC32C crc;
+    private long posicion;
+    
+    private int n;
+    private int largoNombre;
+    private int largoComplejidad;
+    private double[] terminosIndep;
+    private double[] fila;
+    private int[] filas;
+    private int[] columnas;
+    private long noNulos;
+    
+    DestinoArchivo(Path archivo, boolean disperso) {
+        this.archivo = archivo;
+        this.disperso = disperso;
+    }
+    
+    @Override
+    public void iniciar(int numMallas, String complejidad, String nombre) {
+        try {
+            canal = FileChannel.open(archivo, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+            canal.position(ArchivoCircuito.BYTES_CABECERA);
+        } catch (IOException e) {
+            abortar();
+            throw new UncheckedIOException(e);
+        }
+        buffer = ByteBuffer.allocate(TAMANO_BUFFER).order(ByteOrder.LITTLE_ENDIAN);
+        crc = new CRC32C();
+        posicion = ArchivoCircuito.BYTES_CABECERA;
+        n = numMallas;
+        terminosIndep = new double[n];
+        noNulos = 0;
+        
+        byte[] bytesNombre = nombre.getBytes(StandardCharsets.UTF_8);
+        byte[] bytesComplejidad = complejidad.getBytes(StandardCharsets.UTF_8);
+        largoNombre = bytesNombre.length;
+        largoComplejidad = bytesComplejidad.length;
+        escribir(bytesNombre);
+        escribir(bytesComplejidad);
+        alinear();
+        
+        if (disperso) {
+            filas = new int[n + 1];
+            columnas = new int[Math.max(16, 4 * n)];
+        } else {
+            fila = new double[n];
+        }
+    }
+    
+    @Override
+    public void agregarFila(int i, int[] cols, double[] vals, int cantidad, double terminoIndep) {
+        terminosIndep[i] = terminoIndep;
+        if (disperso) {
+            if (noNulos + cantidad > columnas.length) {
+                columnas = Arrays.copyOf(columnas, (int) Math.max(noNulos + cantidad, 2L * columnas.length));
+            }
+            System.arraycopy(cols, 0, columnas, (int) noNulos, cantidad);
+            for (int k = 0; k < cantidad; k++) {
+                escribir(vals[k]);
+            }
+            noNulos += cantidad;
+            filas[i + 1] = (int) noNulos;
+        } else {
+            for (int k = 0; k < cantidad; k++) {
+                fila[cols[k]] = vals[k];
+            }
+            for (int j = 0; j < n; j++) {
+                escribir(fila[j]);
+            }
+            for (int k = 0; k < cantidad; k++) {
+                fila[cols[k]] = 0.0;
+            }
+            noNulos += cantidad;
+        }
+    }
+    
+    @Override
+    public Path terminar() {
+        long offsetValores = ArchivoCircuito.BYTES_CABECERA + alinear8(largoNombre + largoComplejidad);
+        long offsetFilas = 0;
+        long offsetColumnas = 0;
+        if (disperso) {
+            offsetFilas = posicion;
+            for (int i = 0; i <= n; i++) escribir(filas[i]);
+            offsetColumnas = posicion;
+            for (int k = 0; k < noNulos; k++) escribir(columnas[k]);
+            alinear();
+        }
+        long offsetTerminos = posicion;
+        for (int i = 0; i < n; i++) escribir(terminosIndep[i]);
+        vaciar();
+        
+        ByteBuffer cabecera = ArchivoCircuito.cabecera(disperso, n, disperso ? noNulos : (long) n * n,
+            offsetValores, offsetFilas, offsetColumnas, offsetTerminos, posicion,
+            largoNombre, largoComplejidad, (int) crc.getValue());
+        try {
+            while (cabecera.hasRemaining()) {
+                canal.write(cabecera, cabecera.position());
+            }
+            canal.close();
+        } catch (IOException e) {
+            abortar();
+            throw new UncheckedIOException(e);
+        }
+        canal = null;
+        return archivo;
+    }
+    
+    /**
+     * Cierra el canal y borra el archivo incompleto (no hace nada si ya terminó)
+     */
+    @Override
+    public void abortar() {
+        if (canal == null) return;
+        try {
+            canal.close();
+        } catch (IOException e) {
+            // El archivo se borra igual
+        }
+        canal = null;
+        try {
+            Files.deleteIfExists(archivo);
+        } catch (IOException e) {
+            // Queda el archivo sin cabecera válida: abrir() lo rechaza
+        }
+    }
+    
+    private static long alinear8(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+    
+    private void alinear() {
+        while ((posicion & 7) != 0) {
+            if (!buffer.hasRemaining()) vaciar();
+            buffer.put((byte) 0);
+            posicion++;
+        }
+    }
+    
+    private void escribir(double v) {
+        if (buffer.remaining() < Double.BYTES) vaciar();
+        buffer.putDouble(v);
+        posicion += Double.BYTES;
+    }
+    
+    private void escribir(int v) {
+        if (buffer.remaining() < Integer.BYTES) vaciar();
+        buffer.putInt(v);
+        posicion += Integer.BYTES;
+    }
+    
+    private void escribir(byte[] bytes) {
+        for (byte b : bytes) {
+            if (!buffer.hasRemaining()) vaciar();
+            buffer.put(b);
+            posicion++;
+        }
+    }
+    
+    /**
+     * Pasa el buffer al archivo actualizando el checksum
+     */
+    private void vaciar() {
+        buffer.flip();
+        crc.update(buffer.duplicate());
+        try {
+            while (buffer.hasRemaining()) {
+                canal.write(buffer);
+            }
+        } catch (IOException e) {
+            abortar();
+            throw new UncheckedIOException(e);
+        }
+        buffer.clear();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,61 @@
+package circuitos;
+
+/**
+ * Destino al que un generador o lector vuelca un sistema fila por fila
+ * 
+ * Cada fila llega como lista dispersa (columnas crecientes y sus valores),
+ * así el productor nunca arma una matriz densa intermedia: cada destino
+ * decide su propio formato de almacenamiento.
+ * 
+ * @param <T> Lo que produce el destino al terminar (normalmente un Circuito)
+ */
+public interface DestinoCoeficientes<T> {
+    
+    /**
+     * Se llama una vez, antes de la primera fila
+     */
+    void iniciar(int numMallas, String complejidad, String nombre);
+    
+    /**
+     * Agrega la fila i (llegan en orden, de 0 a n - 1); los arreglos pueden
+     * reutilizarse después de la llamada
+     * @param columnas Columnas no nulas, en orden creciente
+     * @param valores Valor de cada columna
+     * @param cantidad Elementos válidos en columnas y valores
+     * @param terminoIndep Término independiente de la fila
+     */
+    void agregarFila(int fila, int[] columnas, double[] valores, int cantidad, double terminoIndep);
+    
+    /**
+     * Se llama después de la última fila
+     */
+    T terminar();
+    
+    /**
+     * Se llama en lugar de terminar() si el productor falla a mitad de camino:
+     * descarta lo volcado y libera lo que se tomó en iniciar()
+     */
+    default void abortar() {
+    }
+    
+    /**
+     * Circuito con coeficientes densos en el heap
+     */
+    static DestinoCoeficientes<Circuito> denso() {
+        return new DestinoDenso();
+    }
+    
+    /**
+     * Circuito con coeficientes en una MatrizFueraHeap (quien lo usa debe cerrarla)
+     */
+    static DestinoCoeficientes<Circuito> fueraHeap() {
+        return new DestinoFueraHeap();
+    }
+    
+    /**
+     * Circuito con coeficientes dispersos (CSR): memoria O(n + nnz)
+     */
+    static DestinoCoeficientes<Circuito> disperso() {
+        return new DestinoDisperso();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,27 @@
+package circuitos;
+
+/**
+ * Vuelca las filas en la matriz densa de un Circuito en el heap
+ */
+class DestinoDenso implements DestinoCoeficientes<Circuito> {
+    private Circuito circuito;
+    
+    @Override
+    public void iniciar(int numMallas, String complejidad, String nombre) {
+        circuito = new Circuito(numMallas, complejidad, nombre);
+    }
+    
+    @Override
+    public void agregarFila(int fila, int[] columnas, double[] valores, int cantidad, double terminoIndep) {
+        double[] destino = circuito.getCoeficientes()[fila];
+        for (int k = 0; k < cantidad; k++) {
+            destino[columnas[k]] = valores[k];
+        }
+        circuito.getTerminosIndep()[fila] = terminoIndep;
+    }
+    
+    @Override
+    public Circuito terminar() {
+        return circuito;
+    }
+}
\ No newline at end of file
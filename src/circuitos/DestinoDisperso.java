@@ -0,0 +1,52 @@
+package circuitos;
+
+import java.util.Arrays;
+
+/**
+ * Vuelca las filas directamente en arreglos CSR: como llegan en orden y con
+ * columnas crecientes, no hace falta pasar por el Ensamblador
+ */
+class DestinoDisperso implements DestinoCoeficientes<Circuito> {
+    private int n;
+    private int[] filas;
+    private int[] columnas;
+    private double[] valores;
+    private double[] terminosIndep;
+    private int cantidad;
+    private String complejidad;
+    private String nombre;
+    
+    @Override
+    public void iniciar(int numMallas, String complejidad, String nombre) {
+        this.n = numMallas;
+        this.filas = new int[numMallas + 1];
+        this.columnas = new int[Math.max(16, 4 * numMallas)];
+        this.valores = new double[columnas.length];
+        this.terminosIndep = new double[numMallas];
+        this.cantidad = 0;
+        this.complejidad = complejidad;
+        this.nombre = nombre;
+    }
+    
+    @Override
+    public void agregarFila(int fila, int[] cols, double[] vals, int k, double terminoIndep) {
+        if (cantidad + k > columnas.length) {
+            int c = Math.max(cantidad + k, columnas.length * 2);
+            columnas = Arrays.copyOf(columnas, c);
+            valores = Arrays.copyOf(valores, c);
+        }
+        System.arraycopy(cols, 0, columnas, cantidad, k);
+        System.arraycopy(vals, 0, valores, cantidad, k);
+        cantidad += k;
+        filas[fila + 1] = cantidad;
+        terminosIndep[fila] = terminoIndep;
+    }
+    
+    @Override
+    public Circuito terminar() {
+        MatrizCSR matriz = new MatrizCSR(n, filas, Arrays.copyOf(columnas, cantidad), Arrays.copyOf(valores, cantidad));
+        Circuito circuito = new Circuito(matriz, complejidad, nombre);
+        System.arraycopy(terminosIndep, 0, circuito.getTerminosIndep(), 0, n);
+        return circuito;
+    }
+}
\ No newline at end of file
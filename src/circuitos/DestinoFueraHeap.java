@@ -0,0 +1,48 @@
+package circuitos;
+
+/**
+ * Vuelca las filas en una MatrizFueraHeap: en el heap solo vive una fila de paso
+ */
+class DestinoFueraHeap implements DestinoCoeficientes<Circuito> {
+    private MatrizFueraHeap matriz;
+    private double[] terminosIndep;
+    private double[] fila;
+    private String complejidad;
+    private String nombre;
+    
+    @Override
+    public void iniciar(int numMallas, String complejidad, String nombre) {
+        this.matriz = MatrizFueraHeap.asignar(numMallas);
+        this.terminosIndep = new double[numMallas];
+        this.fila = new double[numMallas];
+        this.complejidad = complejidad;
+        this.nombre = nombre;
+    }
+    
+    @Override
+    public void agregarFila(int i, int[] columnas, double[] valores, int cantidad, double terminoIndep) {
+        for (int k = 0; k < cantidad; k++) {
+            fila[columnas[k]] = valores[k];
+        }
+        matriz.escribirFila(i, 0, fila, 0, fila.length);
+        for (int k = 0; k < cantidad; k++) {
+            fila[columnas[k]] = 0.0;
+        }
+        terminosIndep[i] = terminoIndep;
+    }
+    
+    @Override
+    public Circuito terminar() {
+        Circuito circuito = new Circuito(matriz, complejidad, nombre);
+        System.arraycopy(terminosIndep, 0, circuito.getTerminosIndep(), 0, terminosIndep.length);
+        return circuito;
+    }
+    
+    @Override
+    public void abortar() {
+        if (matriz != null) {
+            matriz.close();
+            matriz = null;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,211 @@
+package circuitos;
+
+/**
+ * Generador determinista de sistemas de mallas de cualquier tamaño
+ * 
+ * Cada valor sale de un hash de (semilla, i, j), no de un Random con
+ * estado: la misma semilla y configuración dan siempre el mismo sistema,
+ * las filas se generan de forma independiente (sin guardar las anteriores)
+ * y la simetría se obtiene hasheando el par sin orden. Las filas se vuelcan
+ * directamente al destino elegido, sin matriz densa intermedia.
+ * 
+ * Modelo: la malla i comparte una resistencia con la malla j (|i - j| ≤ ancho
+ * de banda) con probabilidad igual a la densidad; el acople vale -R. La
+ * diagonal es dominancia · Σ|acoples| más la resistencia propia de la malla.
+ * Costo: O(n · ancho de banda) evaluaciones de hash.
+ * 
+ * Uso:
+ *   GeneradorCircuitos.conSemilla(42).mallas(10_000).anchoBanda(50)
+ *       .densidad(0.2).condicion(1e3).generar();
+ */
+public final class GeneradorCircuitos {
+    private final long semilla;
+    private int numMallas = 10;
+    private int anchoBanda = 2;
+    private double densidad = 1.0;
+    private double dominancia = 1.5;
+    private boolean resistenciaPropia = true;
+    private boolean simetrico = true;
+    private double resistenciaMin = 1.0;
+    private double resistenciaMax = 10.0;
+    private double tensionMax = 20.0;
+    private String nombre;
+    
+    private GeneradorCircuitos(long semilla) {
+        this.semilla = semilla;
+    }
+    
+    public static GeneradorCircuitos conSemilla(long semilla) {
+        return new GeneradorCircuitos(semilla);
+    }
+    
+    public GeneradorCircuitos mallas(int numMallas) {
+        if (numMallas < 1) {
+            throw new IllegalArgumentException("Debe haber al menos una malla");
+        }
+        this.numMallas = numMallas;
+        return this;
+    }
+    
+    /**
+     * Máxima distancia |i - j| entre mallas acopladas (se limita a n - 1)
+     */
+    public GeneradorCircuitos anchoBanda(int anchoBanda) {
+        if (anchoBanda < 0) {
+            throw new IllegalArgumentException("El ancho de banda no puede ser negativo");
+        }
+        this.anchoBanda = anchoBanda;
+        return this;
+    }
+    
+    /**
+     * Fracción de los pares dentro de la banda que comparten resistencia
+     */
+    public GeneradorCircuitos densidad(double densidad) {
+        if (!(densidad > 0 && densidad <= 1)) {
+            throw new IllegalArgumentException("La densidad debe estar en (0, 1]");
+        }
+        this.densidad = densidad;
+        return this;
+    }
+    
+    /**
+     * Factor entre la diagonal y la suma de los acoples de la fila
+     * (mayor que 1: estrictamente diagonal dominante)
+     */
+    public GeneradorCircuitos dominancia(double dominancia) {
+        if (!(dominancia > 0)) {
+            throw new IllegalArgumentException("La dominancia debe ser positiva");
+        }
+        this.dominancia = dominancia;
+        this.resistenciaPropia = true;
+        return this;
+    }
+    
+    /**
+     * Número de condición aproximado (cota de Gershgorin para el caso simétrico):
+     * fija la dominancia en (κ + 1) / (κ - 1) y quita la resistencia propia
+     * de las mallas acopladas, que de otro modo acotaría κ por debajo
+     */
+    public GeneradorCircuitos condicion(double condicion) {
+        if (!(condicion > 1)) {
+            throw new IllegalArgumentException("El número de condición debe ser mayor que 1");
+        }
+        dominancia((condicion + 1) / (condicion - 1));
+        this.resistenciaPropia = false;
+        return this;
+    }
+    
+    /**
+     * Con false, los acoples (i, j) y (j, i) toman valores distintos
+     * (como con fuentes dependientes); el patrón sigue siendo simétrico
+     */
+    public GeneradorCircuitos simetrico(boolean simetrico) {
+        this.simetrico = simetrico;
+        return this;
+    }
+    
+    public GeneradorCircuitos resistencias(double minimo, double maximo) {
+        if (!(minimo > 0 && maximo >= minimo)) {
+            throw new IllegalArgumentException("Rango de resistencias inválido");
+        }
+        this.resistenciaMin = minimo;
+        this.resistenciaMax = maximo;
+        return this;
+    }
+    
+    /**
+     * Las fuentes de cada malla toman valores en [-tensionMax, tensionMax]
+     */
+    public GeneradorCircuitos tensionMaxima(double tensionMax) {
+        this.tensionMax = tensionMax;
+        return this;
+    }
+    
+    public GeneradorCircuitos nombre(String nombre) {
+        this.nombre = nombre;
+        return this;
+    }
+    
+    /**
+     * Circuito con coeficientes densos en el heap
+     */
+    public Circuito generar() {
+        return generar(DestinoCoeficientes.denso());
+    }
+    
+    /**
+     * Circuito con coeficientes fuera del heap (quien lo usa debe cerrar la matriz)
+     */
+    public Circuito generarFueraHeap() {
+        return generar(DestinoCoeficientes.fueraHeap());
+    }
+    
+    /**
+     * Circuito con coeficientes dispersos, para redes de 100k+ mallas
+     */
+    public Circuito generarDisperso() {
+        return generar(DestinoCoeficientes.disperso());
+    }
+    
+    /**
+     * Genera el sistema fila por fila sobre el destino dado
+     */
+    public <T> T generar(DestinoCoeficientes<T> destino) {
+        int n = numMallas;
+        int b = Math.min(anchoBanda, n - 1);
+        String nombreFinal = nombre != null ? nombre : "Generado-" + n + "-Mallas-s" + semilla;
+        destino.iniciar(n, "GENERADO", nombreFinal);
+        
+        int[] columnas = new int[2 * b + 1];
+        double[] valores = new double[2 * b + 1];
+        
+        for (int i = 0; i < n; i++) {
+            int cantidad = 0;
+            int posDiagonal = -1;
+            double suma = 0;
+            
+            for (int j = Math.max(0, i - b); j <= Math.min(n - 1, i + b); j++) {
+                if (j == i) {
+                    posDiagonal = cantidad;
+                    columnas[cantidad] = i;
+                    valores[cantidad++] = 0.0;
+                    continue;
+                }
+                int menor = Math.min(i, j);
+                int mayor = Math.max(i, j);
+                if (uniforme(menor, mayor, 0) >= densidad) continue;
+                
+                // Simétrico: el valor depende del par; si no, de la posición ordenada
+                double u = simetrico ? uniforme(menor, mayor, 1) : uniforme(i, j, 2);
+                double acople = -(resistenciaMin + u * (resistenciaMax - resistenciaMin));
+                columnas[cantidad] = j;
+                valores[cantidad++] = acople;
+                suma -= acople;
+            }
+            
+            // Una malla aislada siempre conserva su resistencia propia
+            double propia = 0.0;
+            if (resistenciaPropia || suma == 0.0) {
+                propia = resistenciaMin + uniforme(i, i, 3) * (resistenciaMax - resistenciaMin);
+            }
+            valores[posDiagonal] = dominancia * suma + propia;
+            
+            double fuente = (2 * uniforme(i, -1, 4) - 1) * tensionMax;
+            destino.agregarFila(i, columnas, valores, cantidad, fuente);
+        }
+        
+        return destino.terminar();
+    }
+    
+    /**
+     * Número en [0, 1) que depende solo de la semilla, la posición y el uso (SplitMix64)
+     */
+    private double uniforme(long i, long j, long uso) {
+        long z = semilla ^ (i * 0x9E3779B97F4A7C15L) ^ (j * 0xC2B2AE3D27D4EB4FL) ^ (uso * 0x165667B19E3779F9L);
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        z = z ^ (z >>> 31);
+        return (z >>> 11) * 0x1.0p-53;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,577 @@
+package circuitos;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Lector de netlists estilo SPICE que arma el sistema en una sola pasada
+ *
+ * Formato (una componente por línea, sin distinguir mayúsculas):
+ *   título                     la primera línea, como en SPICE
+ *   R<nombre> n1 n2 valor      resistencia en ohms
+ *   V<nombre> n+ n- [DC] valor fuente de tensión
+ *   I<nombre> n+ n- [DC] valor fuente de corriente (circula de n+ a n- por dentro)
+ *   * comentario, ; comentario al final de la línea, .end termina
+ * Los nodos "0" y "gnd" son la referencia. Los valores aceptan exponentes y
+ * los sufijos f p n u m k meg g t (las letras que siguen, como "ohm", se ignoran).
+ *
+ * Se usa análisis nodal modificado: una incógnita por nodo (su tensión) y
+ * una por fuente de tensión (su corriente), numeradas según aparecen. Las
+ * líneas se leen por bloques desde un canal NIO y se tokenizan sobre los
+ * bytes, sin Strings ni expresiones regulares por línea; cada componente se
+ * estampa directo en un MatrizCSR.Ensamblador.
+ */
+public class LectorNetlist {
+    private static final int TAMANO_BLOQUE = 1 << 16;
+    private static final double[] POTENCIAS_10 = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+    
+    // Estado del armado
+    private MatrizCSR.Ensamblador ensamblador;
+    private double[] terminosIndep;
+    private int incognitas;
+    private final TablaNombres nodos = new TablaNombres();
+    private final TablaNombres fuentes = new TablaNombres();
+    private int[] incognitaNodo = new int[64];
+    private int[] incognitaFuente = new int[16];
+    private String titulo;
+    
+    // Línea actual y sus tokens (posiciones dentro de linea)
+    private byte[] linea = new byte[256];
+    private int largoLinea;
+    private final int[] inicioToken = new int[8];
+    private final int[] finToken = new int[8];
+    private int numeroLinea;
+    private boolean terminado;
+    
+    // Estadísticas
+    private long bytesLeidos;
+    private long lineas;
+    private long componentes;
+    private long nanosLectura;
+    private long nanosEnsamblado;
+    
+    /**
+     * Lee el archivo y arma un circuito disperso (sin copias adicionales)
+     */
+    public Circuito leerDisperso(Path archivo) throws IOException {
+        try (FileChannel canal = FileChannel.open(archivo, StandardOpenOption.READ)) {
+            leer(canal, nombreArchivo(archivo));
+        }
+        long inicio = System.nanoTime();
+        Circuito circuito = new Circuito(ensamblador.construir(), "NETLIST", titulo);
+        System.arraycopy(terminosIndep, 0, circuito.getTerminosIndep(), 0, incognitas);
+        nanosEnsamblado = System.nanoTime() - inicio;
+        return circuito;
+    }
+    
+    /**
+     * Lee el archivo y arma un circuito denso en el heap
+     */
+    public Circuito leerDenso(Path archivo) throws IOException {
+        return leer(archivo, DestinoCoeficientes.denso());
+    }
+    
+    /**
+     * Lee el archivo y vuelca el sistema, fila por fila, en el destino dado
+     */
+    public <T> T leer(Path archivo, DestinoCoeficientes<T> destino) throws IOException {
+        try (FileChannel canal = FileChannel.open(archivo, StandardOpenOption.READ)) {
+            return leer(canal, nombreArchivo(archivo), destino);
+        }
+    }
+    
+    /**
+     * Igual que leer(Path, destino) pero desde cualquier canal (no lo cierra)
+     */
+    public <T> T leer(ReadableByteChannel canal, String nombrePorDefecto, DestinoCoeficientes<T> destino)
+            throws IOException {
+        leer(canal, nombrePorDefecto);
+        
+        long inicio = System.nanoTime();
+        MatrizCSR A = ensamblador.construir();
+        int[] filas = A.getFilas();
+        int[] columnas = new int[16];
+        double[] valores = new double[16];
+        destino.iniciar(incognitas, "NETLIST", titulo);
+        for (int i = 0; i < incognitas; i++) {
+            int desde = filas[i];
+            int cantidad = filas[i + 1] - desde;
+            if (cantidad > columnas.length) {
+                columnas = new int[cantidad];
+                valores = new double[cantidad];
+            }
+            System.arraycopy(A.getColumnas(), desde, columnas, 0, cantidad);
+            System.arraycopy(A.getValores(), desde, valores, 0, cantidad);
+            destino.agregarFila(i, columnas, valores, cantidad, terminosIndep[i]);
+        }
+        T resultado = destino.terminar();
+        nanosEnsamblado = System.nanoTime() - inicio;
+        return resultado;
+    }
+    
+    private static String nombreArchivo(Path archivo) {
+        Path nombre = archivo.getFileName();
+        return nombre != null ? nombre.toString() : archivo.toString();
+    }
+    
+    /**
+     * Pasada única: lee bloques del canal, corta líneas y estampa cada componente
+     */
+    private void leer(ReadableByteChannel canal, String nombrePorDefecto) throws IOException {
+        reiniciar();
+        long inicio = System.nanoTime();
+        
+        ByteBuffer bloque = ByteBuffer.allocate(TAMANO_BLOQUE);
+        byte[] datos = bloque.array();
+        int leidos;
+        while (!terminado && (leidos = canal.read(bloque)) != -1) {
+            bytesLeidos += leidos;
+            int fin = bloque.position();
+            int p = 0;
+            while (p < fin && !terminado) {
+                int q = p;
+                while (q < fin && datos[q] != '\n') q++;
+                int n = q - p;
+                if (largoLinea + n > linea.length) {
+                    linea = Arrays.copyOf(linea, Math.max(largoLinea + n, 2 * linea.length));
+                }
+                System.arraycopy(datos, p, linea, largoLinea, n);
+                largoLinea += n;
+                if (q < fin) {
+                    procesarLinea();
+                }
+                p = q + 1;
+            }
+            bloque.clear();
+        }
+        if (!terminado && largoLinea > 0) {
+            procesarLinea();
+        }
+        
+        if (titulo == null || titulo.isEmpty()) {
+            titulo = nombrePorDefecto;
+        }
+        nanosLectura = System.nanoTime() - inicio;
+    }
+    
+    private void reiniciar() {
+        ensamblador = new MatrizCSR.Ensamblador(0, 1 << 12);
+        terminosIndep = new double[64];
+        incognitas = 0;
+        nodos.vaciar();
+        fuentes.vaciar();
+        titulo = null;
+        largoLinea = 0;
+        numeroLinea = 0;
+        terminado = false;
+        bytesLeidos = 0;
+        lineas = 0;
+        componentes = 0;
+    }
+    
+    private void procesarLinea() {
+        numeroLinea++;
+        lineas++;
+        int largo = largoLinea;
+        largoLinea = 0;
+        if (largo > 0 && linea[largo - 1] == '\r') largo--;
+        
+        if (numeroLinea == 1) {
+            titulo = new String(linea, 0, largo, StandardCharsets.UTF_8).trim();
+            return;
+        }
+        
+        int tokens = tokenizar(largo);
+        if (tokens == 0) return;
+        
+        byte tipo = linea[inicioToken[0]];
+        if (tipo == '*') return;
+        if (tipo == '.') {
+            if (esPalabra(0, ".end")) terminado = true;
+            return;
+        }
+        
+        // El valor es el cuarto token, o el quinto si el cuarto es "DC"
+        int tokenValor = tokens >= 5 && esPalabra(3, "dc") ? 4 : 3;
+        if (tokens <= tokenValor) {
+            throw error("se esperaban dos nodos y un valor");
+        }
+        int a = incognitaDeNodo(1);
+        int b = incognitaDeNodo(2);
+        double valor = numero(tokenValor);
+        
+        switch (tipo | 0x20) {
+            case 'r': {
+                if (valor == 0.0) throw error("resistencia nula");
+                double g = 1.0 / valor;
+                if (a >= 0) ensamblador.agregar(a, a, g);
+                if (b >= 0) ensamblador.agregar(b, b, g);
+                if (a >= 0 && b >= 0) {
+                    ensamblador.agregar(a, b, -g);
+                    ensamblador.agregar(b, a, -g);
+                }
+                break;
+            }
+            case 'v': {
+                int k = nuevaIncognitaFuente();
+                if (a >= 0) {
+                    ensamblador.agregar(a, k, 1.0);
+                    ensamblador.agregar(k, a, 1.0);
+                }
+                if (b >= 0) {
+                    ensamblador.agregar(b, k, -1.0);
+                    ensamblador.agregar(k, b, -1.0);
+                }
+                terminosIndep[k] += valor;
+                break;
+            }
+            case 'i': {
+                // Sale del nodo n+ y entra al n- por el circuito externo
+                if (a >= 0) terminosIndep[a] -= valor;
+                if (b >= 0) terminosIndep[b] += valor;
+                break;
+            }
+            default:
+                throw error("componente no soportada");
+        }
+        componentes++;
+    }
+    
+    /**
+     * Separa la línea en tokens por espacios, tabs o comas; corta en ';'
+     * @return cantidad de tokens (se guardan hasta 8)
+     */
+    private int tokenizar(int largo) {
+        int cantidad = 0;
+        int p = 0;
+        while (p < largo) {
+            byte c = linea[p];
+            if (c == ';') break;
+            if (c == ' ' || c == '\t' || c == ',') {
+                p++;
+                continue;
+            }
+            int inicio = p;
+            while (p < largo && linea[p] != ' ' && linea[p] != '\t' && linea[p] != ',' && linea[p] != ';') p++;
+            if (cantidad < inicioToken.length) {
+                inicioToken[cantidad] = inicio;
+                finToken[cantidad] = p;
+            }
+            cantidad++;
+        }
+        return cantidad;
+    }
+    
+    private boolean esPalabra(int token, String palabra) {
+        int inicio = inicioToken[token];
+        if (finToken[token] - inicio != palabra.length()) return false;
+        for (int k = 0; k < palabra.length(); k++) {
+            if ((linea[inicio + k] | 0x20) != palabra.charAt(k)) return false;
+        }
+        return true;
+    }
+    
+    /**
+     * Incógnita de la tensión del nodo del token dado; -1 para la referencia
+     */
+    private int incognitaDeNodo(int token) {
+        int inicio = inicioToken[token];
+        int largo = finToken[token] - inicio;
+        if (largo == 1 && linea[inicio] == '0') return -1;
+        if (largo == 3 && (linea[inicio] | 0x20) == 'g' && (linea[inicio + 1] | 0x20) == 'n'
+                && (linea[inicio + 2] | 0x20) == 'd') {
+            return -1;
+        }
+        
+        int previos = nodos.cantidad;
+        int id = nodos.buscarOAgregar(linea, inicio, largo);
+        if (nodos.cantidad > previos) {
+            if (id == incognitaNodo.length) {
+                incognitaNodo = Arrays.copyOf(incognitaNodo, 2 * id);
+            }
+            incognitaNodo[id] = nuevaIncognita();
+        }
+        return incognitaNodo[id];
+    }
+    
+    private int nuevaIncognitaFuente() {
+        int inicio = inicioToken[0];
+        int previas = fuentes.cantidad;
+        int id = fuentes.buscarOAgregar(linea, inicio, finToken[0] - inicio);
+        if (fuentes.cantidad == previas) {
+            throw error("fuente de tensión repetida");
+        }
+        if (id == incognitaFuente.length) {
+            incognitaFuente = Arrays.copyOf(incognitaFuente, 2 * id);
+        }
+        incognitaFuente[id] = nuevaIncognita();
+        return incognitaFuente[id];
+    }
+    
+    private int nuevaIncognita() {
+        if (incognitas == terminosIndep.length) {
+            terminosIndep = Arrays.copyOf(terminosIndep, 2 * incognitas);
+        }
+        terminosIndep[incognitas] = 0.0;
+        ensamblador.ampliar(incognitas + 1);
+        return incognitas++;
+    }
+    
+    /**
+     * Convierte el token en número sin crear Strings en el caso común:
+     * mantisa entera de hasta 18 dígitos por una potencia de 10 exacta
+     */
+    private double numero(int token) {
+        int p = inicioToken[token];
+        int fin = finToken[token];
+        int inicio = p;
+        
+        boolean negativo = false;
+        if (p < fin && (linea[p] == '-' || linea[p] == '+')) {
+            negativo = linea[p] == '-';
+            p++;
+        }
+        long mantisa = 0;
+        int digitos = 0;
+        boolean hayDigitos = false;
+        int exponente = 0;
+        boolean punto = false;
+        boolean exacto = true;
+        for (; p < fin; p++) {
+            byte c = linea[p];
+            if (c >= '0' && c <= '9') {
+                hayDigitos = true;
+                if (digitos < 18) {
+                    mantisa = mantisa * 10 + (c - '0');
+                    if (mantisa != 0) digitos++;
+                    if (punto) exponente--;
+                } else {
+                    exacto = false;
+                    if (!punto) exponente++;
+                }
+            } else if (c == '.' && !punto) {
+                punto = true;
+            } else {
+                break;
+            }
+        }
+        if (!hayDigitos) {
+            throw error("valor inválido");
+        }
+        
+        // Exponente explícito (e / E seguido de dígitos)
+        if (p + 1 < fin && (linea[p] | 0x20) == 'e') {
+            int q = p + 1;
+            boolean expNegativo = false;
+            if (linea[q] == '-' || linea[q] == '+') {
+                expNegativo = linea[q] == '-';
+                q++;
+            }
+            if (q < fin && linea[q] >= '0' && linea[q] <= '9') {
+                int e = 0;
+                while (q < fin && linea[q] >= '0' && linea[q] <= '9') {
+                    e = Math.min(10_000, e * 10 + (linea[q] - '0'));
+                    q++;
+                }
+                exponente += expNegativo ? -e : e;
+                p = q;
+            }
+        }
+        
+        double valor;
+        if (exacto && Math.abs(exponente) <= 22 && mantisa < (1L << 53)) {
+            valor = exponente >= 0 ? mantisa * POTENCIAS_10[exponente] : mantisa / POTENCIAS_10[-exponente];
+        } else {
+            valor = Double.parseDouble(new String(linea, inicio, p - inicio, StandardCharsets.US_ASCII));
+            negativo = false;
+        }
+        
+        valor *= multiplicador(p, fin);
+        return negativo ? -valor : valor;
+    }
+    
+    /**
+     * Sufijo de escala SPICE a partir de la posición p (el resto se ignora)
+     */
+    private double multiplicador(int p, int fin) {
+        if (p >= fin) return 1.0;
+        switch (linea[p] | 0x20) {
+            case 'f': return 1e-15;
+            case 'p': return 1e-12;
+            case 'n': return 1e-9;
+            case 'u': return 1e-6;
+            case 'm':
+                if (p + 2 < fin && (linea[p + 1] | 0x20) == 'e' && (linea[p + 2] | 0x20) == 'g') return 1e6;
+                if (p + 2 < fin && (linea[p + 1] | 0x20) == 'i' && (linea[p + 2] | 0x20) == 'l') return 25.4e-6;
+                return 1e-3;
+            case 'k': return 1e3;
+            case 'g': return 1e9;
+            case 't': return 1e12;
+            default: return 1.0;
+        }
+    }
+    
+    private IllegalArgumentException error(String motivo) {
+        int largo = Math.min(finToken[0] - inicioToken[0], 40);
+        String componente = new String(linea, inicioToken[0], Math.max(0, largo), StandardCharsets.UTF_8);
+        return new IllegalArgumentException("Línea " + numeroLinea + " (" + componente + "): " + motivo);
+    }
+    
+    /**
+     * Nombre de la incógnita i: "V(nodo)" o "I(fuente)"
+     */
+    public String getNombreIncognita(int i) {
+        for (int id = 0; id < nodos.cantidad; id++) {
+            if (incognitaNodo[id] == i) return "V(" + nodos.nombre(id) + ")";
+        }
+        for (int id = 0; id < fuentes.cantidad; id++) {
+            if (incognitaFuente[id] == i) return "I(" + fuentes.nombre(id) + ")";
+        }
+        throw new IllegalArgumentException("No existe la incógnita " + i);
+    }
+    
+    /**
+     * Incógnita de la tensión de un nodo, o -1 si no existe o es la referencia
+     */
+    public int getIncognitaNodo(String nombre) {
+        byte[] b = nombre.getBytes(StandardCharsets.UTF_8);
+        int id = nodos.buscar(b, 0, b.length);
+        return id < 0 ? -1 : incognitaNodo[id];
+    }
+    
+    public int getNodos() { return nodos.cantidad; }
+    public int getFuentesTension() { return fuentes.cantidad; }
+    public long getBytesLeidos() { return bytesLeidos; }
+    public long getLineas() { return lineas; }
+    public long getComponentes() { return componentes; }
+    public long getNanosLectura() { return nanosLectura; }
+    public long getNanosEnsamblado() { return nanosEnsamblado; }
+    
+    /**
+     * Megabytes de netlist leídos y tokenizados por segundo
+     */
+    public double getMBPorSegundo() {
+        return nanosLectura == 0 ? 0 : bytesLeidos / 1e6 / (nanosLectura / 1e9);
+    }
+    
+    /**
+     * Componentes estampadas por segundo (lectura más armado)
+     */
+    public double getComponentesPorSegundo() {
+        long total = nanosLectura + nanosEnsamblado;
+        return total == 0 ? 0 : componentes / (total / 1e9);
+    }
+    
+    /**
+     * Resumen del último archivo leído
+     */
+    public String getResumen() {
+        return String.format("%.1f MB, %d líneas, %d componentes, %d incógnitas; lectura %.1f ms (%.1f MB/s), "
+            + "armado %.1f ms (%.0f componentes/s)", bytesLeidos / 1e6, lineas, componentes, incognitas,
+            nanosLectura / 1e6, getMBPorSegundo(), nanosEnsamblado / 1e6, getComponentesPorSegundo());
+    }
+    
+    /**
+     * Tabla hash de nombres guardados como bytes en un único arreglo:
+     * buscar un nombre ya visto no crea objetos
+     */
+    private static final class TablaNombres {
+        private byte[] bytes = new byte[1024];
+        private int usados;
+        private int[] inicio = new int[64];
+        private int[] largo = new int[64];
+        private int[] hashes = new int[64];
+        private int[] tabla = new int[128]; // id + 1, 0 = libre
+        int cantidad;
+        
+        void vaciar() {
+            usados = 0;
+            cantidad = 0;
+            Arrays.fill(tabla, 0);
+        }
+        
+        int buscar(byte[] origen, int desde, int n) {
+            int h = hash(origen, desde, n);
+            int mascara = tabla.length - 1;
+            for (int pos = h & mascara; tabla[pos] != 0; pos = (pos + 1) & mascara) {
+                int id = tabla[pos] - 1;
+                if (hashes[id] == h && iguales(id, origen, desde, n)) return id;
+            }
+            return -1;
+        }
+        
+        int buscarOAgregar(byte[] origen, int desde, int n) {
+            int h = hash(origen, desde, n);
+            int mascara = tabla.length - 1;
+            int pos = h & mascara;
+            for (; tabla[pos] != 0; pos = (pos + 1) & mascara) {
+                int id = tabla[pos] - 1;
+                if (hashes[id] == h && iguales(id, origen, desde, n)) return id;
+            }
+            
+            int id = cantidad++;
+            if (id == inicio.length) {
+                inicio = Arrays.copyOf(inicio, 2 * id);
+                largo = Arrays.copyOf(largo, 2 * id);
+                hashes = Arrays.copyOf(hashes, 2 * id);
+            }
+            if (usados + n > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(usados + n, 2 * bytes.length));
+            }
+            System.arraycopy(origen, desde, bytes, usados, n);
+            inicio[id] = usados;
+            largo[id] = n;
+            hashes[id] = h;
+            usados += n;
+            tabla[pos] = id + 1;
+            
+            if (2 * cantidad > tabla.length) {
+                rehacer();
+            }
+            return id;
+        }
+        
+        private void rehacer() {
+            tabla = new int[2 * tabla.length];
+            int mascara = tabla.length - 1;
+            for (int id = 0; id < cantidad; id++) {
+                int pos = hashes[id] & mascara;
+                while (tabla[pos] != 0) pos = (pos + 1) & mascara;
+                tabla[pos] = id + 1;
+            }
+        }
+        
+        private boolean iguales(int id, byte[] origen, int desde, int n) {
+            if (largo[id] != n) return false;
+            int base = inicio[id];
+            for (int k = 0; k < n; k++) {
+                if ((bytes[base + k] | 0x20) != (origen[desde + k] | 0x20)) return false;
+            }
+            return true;
+        }
+        
+        /**
+         * FNV-1a sin distinguir mayúsculas, mezclado para la tabla abierta
+         */
+        private static int hash(byte[] b, int desde, int n) {
+            int h = 0x811C9DC5;
+            for (int k = 0; k < n; k++) {
+                h = (h ^ (b[desde + k] | 0x20)) * 0x01000193;
+            }
+            return h ^ (h >>> 16);
+        }
+        
+        String nombre(int id) {
+            return new String(bytes, inicio[id], largo[id], StandardCharsets.UTF_8);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,319 @@
+package circuitos;
+
+import java.util.Arrays;
+
+/**
+ * Matriz dispersa en formato CSR (Compressed Sparse Row)
+ * 
+ * Los valores no nulos de la fila i están en valores[filas[i] .. filas[i+1]-1],
+ * con sus columnas en orden creciente en el mismo rango de columnas[].
+ * Memoria: O(n + nnz) en lugar de O(n²).
+ */
+public class MatrizCSR {
+    private final int n;
+    private final int[] filas;
+    private final int[] columnas;
+    private final double[] valores;
+    
+    public MatrizCSR(int n, int[] filas, int[] columnas, double[] valores) {
+        this.n = n;
+        this.filas = filas;
+        this.columnas = columnas;
+        this.valores = valores;
+    }
+    
+    /**
+     * Comprime una matriz densa descartando los ceros
+     */
+    public static MatrizCSR desde(double[][] A) {
+        int n = A.length;
+        int nnz = 0;
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                if (A[i][j] != 0.0) nnz++;
+            }
+        }
+        
+        int[] filas = new int[n + 1];
+        int[] columnas = new int[nnz];
+        double[] valores = new double[nnz];
+        int pos = 0;
+        for (int i = 0; i < n; i++) {
+            filas[i] = pos;
+            for (int j = 0; j < n; j++) {
+                if (A[i][j] != 0.0) {
+                    columnas[pos] = j;
+                    valores[pos] = A[i][j];
+                    pos++;
+                }
+            }
+        }
+        filas[n] = pos;
+        
+        return new MatrizCSR(n, filas, columnas, valores);
+    }
+    
+    /**
+     * Arma una MatrizCSR a partir de entradas sueltas (i, j, valor) en cualquier
+     * orden (formato de coordenadas); las entradas repetidas se suman, como
+     * al estampar componentes en análisis nodal o de mallas
+     */
+    public static class Ensamblador {
+        private int n;
+        private int[] filasE;
+        private int[] columnasE;
+        private double[] valoresE;
+        private int cantidad;
+        
+        public Ensamblador(int n) {
+            this(n, 4 * n);
+        }
+        
+        /**
+         * @param capacidad Entradas previstas (el arreglo crece si hace falta)
+         */
+        public Ensamblador(int n, int capacidad) {
+            this.n = n;
+            int c = Math.max(16, capacidad);
+            this.filasE = new int[c];
+            this.columnasE = new int[c];
+            this.valoresE = new double[c];
+        }
+        
+        /**
+         * Suma valor a la posición (i, j)
+         */
+        public Ensamblador agregar(int i, int j, double valor) {
+            if (i < 0 || i >= n || j < 0 || j >= n) {
+                throw new IllegalArgumentException("Posición (" + i + ", " + j + ") fuera de una matriz de " + n);
+            }
+            if (cantidad == filasE.length) {
+                int c = filasE.length * 2;
+                filasE = Arrays.copyOf(filasE, c);
+                columnasE = Arrays.copyOf(columnasE, c);
+                valoresE = Arrays.copyOf(valoresE, c);
+            }
+            filasE[cantidad] = i;
+            columnasE[cantidad] = j;
+            valoresE[cantidad] = valor;
+            cantidad++;
+            return this;
+        }
+        
+        /**
+         * Agranda la dimensión, para cuando las incógnitas aparecen mientras se ensambla
+         */
+        public Ensamblador ampliar(int n) {
+            if (n < this.n) {
+                throw new IllegalArgumentException("La dimensión no puede reducirse");
+            }
+            this.n = n;
+            return this;
+        }
+        
+        public int getDimension() { return n; }
+        
+        /**
+         * Entradas agregadas hasta ahora (con repeticiones)
+         */
+        public int getEntradas() { return cantidad; }
+        
+        /**
+         * Ordena por columnas y luego por filas (dos pasadas de conteo estables,
+         * O(n + entradas)), con lo que cada fila queda con columnas crecientes,
+         * y suma las repetidas
+         */
+        public MatrizCSR construir() {
+            // Pasada 1: agrupar por columna
+            int[] inicioCol = new int[n + 1];
+            for (int k = 0; k < cantidad; k++) inicioCol[columnasE[k] + 1]++;
+            for (int j = 0; j < n; j++) inicioCol[j + 1] += inicioCol[j];
+            int[] porColumna = new int[cantidad];
+            int[] pos = Arrays.copyOf(inicioCol, n);
+            for (int k = 0; k < cantidad; k++) porColumna[pos[columnasE[k]]++] = k;
+            
+            // Pasada 2: agrupar por fila recorriendo en orden de columna
+            int[] filas = new int[n + 1];
+            for (int k = 0; k < cantidad; k++) filas[filasE[k] + 1]++;
+            for (int i = 0; i < n; i++) filas[i + 1] += filas[i];
+            int[] columnas = new int[cantidad];
+            double[] valores = new double[cantidad];
+            pos = Arrays.copyOf(filas, n);
+            for (int k : porColumna) {
+                int p = pos[filasE[k]]++;
+                columnas[p] = columnasE[k];
+                valores[p] = valoresE[k];
+            }
+            
+            // Sumar repetidas (quedaron contiguas) compactando en sitio
+            int escritos = 0;
+            int inicio = 0;
+            for (int i = 0; i < n; i++) {
+                int fin = filas[i + 1];
+                filas[i] = escritos;
+                for (int p = inicio; p < fin; p++) {
+                    if (escritos > filas[i] && columnas[escritos - 1] == columnas[p]) {
+                        valores[escritos - 1] += valores[p];
+                    } else {
+                        columnas[escritos] = columnas[p];
+                        valores[escritos] = valores[p];
+                        escritos++;
+                    }
+                }
+                inicio = fin;
+            }
+            filas[n] = escritos;
+            
+            return new MatrizCSR(n, filas, Arrays.copyOf(columnas, escritos), Arrays.copyOf(valores, escritos));
+        }
+    }
+    
+    /**
+     * Aᵀ en O(n + nnz); equivale a la forma CSC de A
+     */
+    public MatrizCSR transpuesta() {
+        int nnz = filas[n];
+        int[] filasT = new int[n + 1];
+        for (int k = 0; k < nnz; k++) filasT[columnas[k] + 1]++;
+        for (int j = 0; j < n; j++) filasT[j + 1] += filasT[j];
+        int[] columnasT = new int[nnz];
+        double[] valoresT = new double[nnz];
+        int[] pos = Arrays.copyOf(filasT, n);
+        for (int i = 0; i < n; i++) {
+            for (int k = filas[i]; k < filas[i + 1]; k++) {
+                int p = pos[columnas[k]]++;
+                columnasT[p] = i;
+                valoresT[p] = valores[k];
+            }
+        }
+        return new MatrizCSR(n, filasT, columnasT, valoresT);
+    }
+    
+    /**
+     * P·A·Pᵀ: la fila y la columna k de la resultante son la fila y la
+     * columna orden[k] de esta matriz. O(n + nnz)
+     */
+    public MatrizCSR permutar(int[] orden) {
+        int[] posicion = new int[n];
+        for (int k = 0; k < n; k++) {
+            posicion[orden[k]] = k;
+        }
+        int[] filasP = new int[n + 1];
+        for (int k = 0; k < n; k++) {
+            int i = orden[k];
+            filasP[k + 1] = filasP[k] + (filas[i + 1] - filas[i]);
+        }
+        int[] columnasP = new int[filas[n]];
+        double[] valoresP = new double[filas[n]];
+        for (int k = 0; k < n; k++) {
+            int i = orden[k];
+            int p = filasP[k];
+            for (int q = filas[i]; q < filas[i + 1]; q++) {
+                columnasP[p] = posicion[columnas[q]];
+                valoresP[p++] = valores[q];
+            }
+        }
+        // Dos transposiciones por conteo dejan las columnas de cada fila en orden
+        return new MatrizCSR(n, filasP, columnasP, valoresP).transpuesta().transpuesta();
+    }
+    
+    /**
+     * Compara cada entrada con su simétrica, con la misma tolerancia relativa
+     * que FactorizacionCholesky.esCandidata
+     */
+    public boolean esSimetrica() {
+        for (int i = 0; i < n; i++) {
+            for (int k = filas[i]; k < filas[i + 1]; k++) {
+                int j = columnas[k];
+                if (j == i) continue;
+                double a = valores[k];
+                double b = get(j, i);
+                if (Math.abs(a - b) > 1e-12 * Math.max(Math.abs(a), Math.abs(b))) return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Indica si todos los elementos de la diagonal son positivos
+     */
+    public boolean tieneDiagonalPositiva() {
+        for (int i = 0; i < n; i++) {
+            if (!(get(i, i) > 0.0)) return false;
+        }
+        return true;
+    }
+    
+    /**
+     * Máxima distancia i - j con valor almacenado, en O(n)
+     */
+    public int getAnchoBandaInferior() {
+        int ancho = 0;
+        for (int i = 0; i < n; i++) {
+            if (filas[i] < filas[i + 1]) ancho = Math.max(ancho, i - columnas[filas[i]]);
+        }
+        return ancho;
+    }
+    
+    /**
+     * Máxima distancia j - i con valor almacenado, en O(n)
+     */
+    public int getAnchoBandaSuperior() {
+        int ancho = 0;
+        for (int i = 0; i < n; i++) {
+            if (filas[i] < filas[i + 1]) ancho = Math.max(ancho, columnas[filas[i + 1] - 1] - i);
+        }
+        return ancho;
+    }
+    
+    /**
+     * Copia la fila i en destino (que debe venir con ceros)
+     */
+    public void leerFila(int i, double[] destino) {
+        for (int k = filas[i]; k < filas[i + 1]; k++) {
+            destino[columnas[k]] = valores[k];
+        }
+    }
+    
+    /**
+     * Memoria de los tres arreglos, en bytes
+     */
+    public long getBytes() {
+        return 4L * (n + 1) + 12L * filas[n];
+    }
+    
+    /**
+     * y = A·x en O(nnz)
+     */
+    public void multiplicar(double[] x, double[] y) {
+        for (int i = 0; i < n; i++) {
+            double sum = 0;
+            for (int k = filas[i]; k < filas[i + 1]; k++) {
+                sum += valores[k] * x[columnas[k]];
+            }
+            y[i] = sum;
+        }
+    }
+    
+    /**
+     * Valor en (i, j) por búsqueda binaria dentro de la fila
+     */
+    public double get(int i, int j) {
+        int lo = filas[i];
+        int hi = filas[i + 1] - 1;
+        while (lo <= hi) {
+            int medio = (lo + hi) >>> 1;
+            int c = columnas[medio];
+            if (c < j) lo = medio + 1;
+            else if (c > j) hi = medio - 1;
+            else return valores[medio];
+        }
+        return 0.0;
+    }
+    
+    public int getDimension() { return n; }
+    public int getNoNulos() { return filas[n]; }
+    public int[] getFilas() { return filas; }
+    public int[] getColumnas() { return columnas; }
+    public double[] getValores() { return valores; }
+}
@@ -0,0 +1,217 @@
+package circuitos;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+
+/**
+ * Matriz cuadrada densa almacenada fuera del heap de Java
+ * 
+ * Los coeficientes viven en ByteBuffer directos, en orden por filas y
+ * repartidos en segmentos de filas completas de hasta 1 GB (un buffer no
+ * puede pasar de 2³¹ bytes). El recolector de basura no recorre ni mueve
+ * esta memoria, así que un sistema de 20k mallas (3.2 GB) no genera pausas.
+ * La memoria se libera explícitamente con close() (try-with-resources),
+ * sin esperar al GC. Requiere -XX:MaxDirectMemorySize suficiente.
+ * 
+ * No es segura para uso concurrente: las copias de filas usan la posición
+ * de los buffers.
+ */
+public final class MatrizFueraHeap implements AutoCloseable {
+    private static final long BYTES_MAX_SEGMENTO = 1L << 30;
+    
+    // Unsafe.invokeCleaner se busca una sola vez: liberar() se llama por panel en la LU fuera de núcleo
+    private static final Object UNSAFE;
+    private static final Method INVOKE_CLEANER;
+    
+    static {
+        Object unsafe = null;
+        Method invokeCleaner = null;
+        try {
+            Class<?> claseUnsafe = Class.forName("sun.misc.Unsafe");
+            Field campo = claseUnsafe.getDeclaredField("theUnsafe");
+            campo.setAccessible(true);
+            unsafe = campo.get(null);
+            invokeCleaner = claseUnsafe.getMethod("invokeCleaner", ByteBuffer.class);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // Sin liberación explícita (JDK 8 o acceso denegado)
+            unsafe = null;
+            invokeCleaner = null;
+        }
+        UNSAFE = unsafe;
+        INVOKE_CLEANER = invokeCleaner;
+    }
+    
+    private final int n;
+    private final int filasPorSegmento;
+    private ByteBuffer[] segmentos;
+    private DoubleBuffer[] vistas;
+    
+    private MatrizFueraHeap(int n, ByteBuffer[] segmentos, int filasPorSegmento) {
+        this.n = n;
+        this.filasPorSegmento = filasPorSegmento;
+        this.segmentos = segmentos;
+        this.vistas = new DoubleBuffer[segmentos.length];
+        for (int s = 0; s < segmentos.length; s++) {
+            vistas[s] = segmentos[s].order(ByteOrder.nativeOrder()).asDoubleBuffer();
+        }
+    }
+    
+    /**
+     * Reserva una matriz n×n fuera del heap, inicializada en cero
+     */
+    public static MatrizFueraHeap asignar(int n) {
+        int filasPorSegmento = filasPorSegmento(n);
+        int cantidad = n == 0 ? 0 : (n + filasPorSegmento - 1) / filasPorSegmento;
+        ByteBuffer[] segmentos = new ByteBuffer[cantidad];
+        for (int s = 0; s < cantidad; s++) {
+            int filas = Math.min(filasPorSegmento, n - s * filasPorSegmento);
+            segmentos[s] = ByteBuffer.allocateDirect(filas * n * Double.BYTES);
+        }
+        return new MatrizFueraHeap(n, segmentos, filasPorSegmento);
+    }
+    
+    /**
+     * Envuelve buffers ya existentes (por ejemplo, regiones de un archivo mapeado)
+     * @param segmentos Filas completas consecutivas, filasPorSegmento por buffer
+     */
+    public static MatrizFueraHeap envolver(int n, ByteBuffer[] segmentos, int filasPorSegmento) {
+        return new MatrizFueraHeap(n, segmentos, filasPorSegmento);
+    }
+    
+    /**
+     * Filas completas que entran en un segmento de 1 GB
+     */
+    public static int filasPorSegmento(int n) {
+        return (int) Math.max(1, Math.min(n, BYTES_MAX_SEGMENTO / (8L * Math.max(1, n))));
+    }
+    
+    /**
+     * Copia una matriz del heap
+     */
+    public static MatrizFueraHeap desde(double[][] A) {
+        int n = A.length;
+        MatrizFueraHeap m = asignar(n);
+        for (int i = 0; i < n; i++) {
+            m.escribirFila(i, 0, A[i], 0, n);
+        }
+        return m;
+    }
+    
+    /**
+     * Copia fuera del heap con la misma división en segmentos (sin pasar por un double[][])
+     */
+    public MatrizFueraHeap copiar() {
+        if (segmentos == null) {
+            throw new IllegalStateException("La matriz fuera del heap ya fue liberada");
+        }
+        ByteBuffer[] copia = new ByteBuffer[segmentos.length];
+        for (int s = 0; s < segmentos.length; s++) {
+            ByteBuffer origen = segmentos[s].duplicate();
+            origen.clear();
+            copia[s] = ByteBuffer.allocateDirect(origen.capacity());
+            copia[s].put(origen);
+            copia[s].clear();
+        }
+        return new MatrizFueraHeap(n, copia, filasPorSegmento);
+    }
+    
+    private DoubleBuffer vista(int i) {
+        if (vistas == null) {
+            throw new IllegalStateException("La matriz fuera del heap ya fue liberada");
+        }
+        return vistas[i / filasPorSegmento];
+    }
+    
+    private int posicion(int i, int j) {
+        return (i % filasPorSegmento) * n + j;
+    }
+    
+    public double get(int i, int j) {
+        return vista(i).get(posicion(i, j));
+    }
+    
+    public void set(int i, int j, double valor) {
+        vista(i).put(posicion(i, j), valor);
+    }
+    
+    /**
+     * Copia las columnas [desde, desde + largo) de la fila i a destino[offset..]
+     */
+    public void leerFila(int i, int desde, double[] destino, int offset, int largo) {
+        DoubleBuffer v = vista(i);
+        v.position(posicion(i, desde));
+        v.get(destino, offset, largo);
+    }
+    
+    /**
+     * Escribe origen[offset..offset + largo) en las columnas [desde, desde + largo) de la fila i
+     */
+    public void escribirFila(int i, int desde, double[] origen, int offset, int largo) {
+        DoubleBuffer v = vista(i);
+        v.position(posicion(i, desde));
+        v.put(origen, offset, largo);
+    }
+    
+    /**
+     * Intercambia las columnas [desde, hasta) de las filas i y j
+     */
+    public void intercambiarFilas(int i, int j, int desde, int hasta) {
+        DoubleBuffer vi = vista(i);
+        DoubleBuffer vj = vista(j);
+        int pi = posicion(i, 0);
+        int pj = posicion(j, 0);
+        for (int k = desde; k < hasta; k++) {
+            double temp = vi.get(pi + k);
+            vi.put(pi + k, vj.get(pj + k));
+            vj.put(pj + k, temp);
+        }
+    }
+    
+    public int getDimension() {
+        return n;
+    }
+    
+    public long getBytes() {
+        return 8L * n * n;
+    }
+    
+    public boolean estaAbierta() {
+        return vistas != null;
+    }
+    
+    /**
+     * Libera la memoria nativa ahora; la matriz deja de poder usarse
+     */
+    @Override
+    public void close() {
+        if (segmentos == null) return;
+        for (ByteBuffer segmento : segmentos) {
+            liberar(segmento);
+        }
+        segmentos = null;
+        vistas = null;
+    }
+    
+    /**
+     * Libera un buffer directo o mapeado con Unsafe.invokeCleaner (JDK 9+).
+     * Si no está disponible, la memoria queda a cargo del GC.
+     * El buffer no debe volver a usarse.
+     */
+    public static void liberar(ByteBuffer buffer) {
+        if (!buffer.isDirect() || INVOKE_CLEANER == null) return;
+        try {
+            INVOKE_CLEANER.invoke(UNSAFE, buffer);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // Sin liberación explícita: el cleaner del buffer actúa cuando el GC lo recolecta
+        }
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("MatrizFueraHeap[%d×%d, %d MB, %d segmentos]",
+            n, n, getBytes() >> 20, segmentos == null ? 0 : segmentos.length);
+    }
+}
\ No newline at end of file
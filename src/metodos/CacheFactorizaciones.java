@@ -0,0 +1,192 @@
+package metodos;
+
+import circuitos.MatrizCSR;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Caché acotada de factorizaciones, indexada por la huella de la matriz de coeficientes
+ * 
+ * Resolver otra vez la misma topología con distintas fuentes solo cuesta las
+ * sustituciones O(n²). Se desaloja por LRU cuando se supera la cantidad
+ * máxima de entradas o la memoria máxima de los factores guardados.
+ * Cada entrada conserva además una copia comprimida (CSR) de la matriz, que
+ * se compara en cada acierto: una colisión de los hashes nunca devuelve la
+ * factorización de otra matriz.
+ * Es segura para usar desde varios hilos.
+ */
+public class CacheFactorizaciones {
+    private final int entradasMaximas;
+    private final long bytesMaximos;
+    private final LinkedHashMap<Huella, Factorizacion> entradas;
+    private long bytesOcupados;
+    private long aciertos;
+    private long fallos;
+    private long desalojos;
+    
+    /**
+     * @param entradasMaximas Cantidad máxima de factorizaciones guardadas
+     * @param bytesMaximos Memoria máxima ocupada por los factores
+     */
+    public CacheFactorizaciones(int entradasMaximas, long bytesMaximos) {
+        this.entradasMaximas = entradasMaximas;
+        this.bytesMaximos = bytesMaximos;
+        this.entradas = new LinkedHashMap<>(16, 0.75f, true); // orden de acceso = LRU
+    }
+    
+    /**
+     * Calcula la huella de una matriz: dimensión más dos hashes de 64 bits
+     * independientes sobre los bits exactos de cada coeficiente (O(n²)).
+     * La huella apunta a A sin copiarla; solo sirve para consultar mientras
+     * A no cambie (guardar() se queda con una copia).
+     */
+    public static Huella huella(double[][] A) {
+        long h1 = 0xcbf29ce484222325L;
+        long h2 = 0x9e3779b97f4a7c15L;
+        for (double[] fila : A) {
+            for (double v : fila) {
+                long bits = Double.doubleToLongBits(v);
+                h1 = (h1 ^ bits) * 0x100000001b3L;
+                h2 = Long.rotateLeft(h2 + bits * 0xc2b2ae3d27d4eb4fL, 31) * 0x9e3779b97f4a7c15L;
+            }
+        }
+        return new Huella(A.length, h1, h2, A, null);
+    }
+    
+    /**
+     * @return la factorización guardada, o null si no está (cuenta acierto o fallo)
+     */
+    public synchronized Factorizacion obtener(Huella huella) {
+        Factorizacion f = entradas.get(huella);
+        if (f != null) {
+            aciertos++;
+        } else {
+            fallos++;
+        }
+        return f;
+    }
+    
+    /**
+     * Guarda una factorización y desaloja las menos usadas si se superan los límites
+     */
+    public synchronized void guardar(Huella huella, Factorizacion factorizacion) {
+        if (entradas.containsKey(huella)) {
+            return; // Otro hilo ya la guardó: la clave existente conserva su copia
+        }
+        
+        Huella clave = huella.conservar();
+        long bytes = factorizacion.getBytes() + clave.getBytes();
+        if (bytes > bytesMaximos) {
+            return; // Nunca entraría: no vale la pena vaciar la caché por ella
+        }
+        
+        entradas.put(clave, factorizacion);
+        bytesOcupados += bytes;
+        
+        Iterator<Map.Entry<Huella, Factorizacion>> it = entradas.entrySet().iterator();
+        while ((entradas.size() > entradasMaximas || bytesOcupados > bytesMaximos) && it.hasNext()) {
+            Map.Entry<Huella, Factorizacion> eldest = it.next();
+            if (eldest.getKey() == clave) continue;
+            bytesOcupados -= eldest.getValue().getBytes() + eldest.getKey().getBytes();
+            it.remove();
+            desalojos++;
+        }
+    }
+    
+    public synchronized void limpiar() {
+        entradas.clear();
+        bytesOcupados = 0;
+    }
+    
+    public synchronized long getAciertos() { return aciertos; }
+    public synchronized long getFallos() { return fallos; }
+    public synchronized long getDesalojos() { return desalojos; }
+    public synchronized int getEntradas() { return entradas.size(); }
+    public synchronized long getBytesOcupados() { return bytesOcupados; }
+    
+    @Override
+    public synchronized String toString() {
+        return String.format("Caché[%d entradas, %d KB, aciertos=%d, fallos=%d, desalojos=%d]",
+            entradas.size(), bytesOcupados / 1024, aciertos, fallos, desalojos);
+    }
+    
+    /**
+     * Clave de la caché: identifica una matriz de coeficientes por su contenido
+     * 
+     * Las huellas de consulta apuntan a la matriz original; las guardadas,
+     * a una copia CSR. Con hashes iguales, equals compara los coeficientes.
+     */
+    public static final class Huella {
+        private final int n;
+        private final long h1;
+        private final long h2;
+        private final double[][] matriz;
+        private final MatrizCSR copia;
+        
+        private Huella(int n, long h1, long h2, double[][] matriz, MatrizCSR copia) {
+            this.n = n;
+            this.h1 = h1;
+            this.h2 = h2;
+            this.matriz = matriz;
+            this.copia = copia;
+        }
+        
+        /**
+         * Misma huella con una copia propia de la matriz, para guardarla como clave
+         */
+        Huella conservar() {
+            return copia != null ? this : new Huella(n, h1, h2, null, MatrizCSR.desde(matriz));
+        }
+        
+        long getBytes() {
+            return copia != null ? copia.getBytes() : 0;
+        }
+        
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Huella)) return false;
+            Huella otra = (Huella) o;
+            if (n != otra.n || h1 != otra.h1 || h2 != otra.h2) return false;
+            if (copia != null && otra.copia != null) {
+                return Arrays.equals(copia.getFilas(), otra.copia.getFilas())
+                    && Arrays.equals(copia.getColumnas(), otra.copia.getColumnas())
+                    && Arrays.equals(copia.getValores(), otra.copia.getValores());
+            }
+            if (copia != null) return coincide(copia, otra.matriz);
+            if (otra.copia != null) return coincide(otra.copia, matriz);
+            return Arrays.deepEquals(matriz, otra.matriz);
+        }
+        
+        /**
+         * Compara la copia guardada con la matriz completa, coeficiente por coeficiente
+         */
+        private static boolean coincide(MatrizCSR copia, double[][] A) {
+            int[] filas = copia.getFilas();
+            int[] columnas = copia.getColumnas();
+            double[] valores = copia.getValores();
+            for (int i = 0; i < A.length; i++) {
+                double[] fila = A[i];
+                int p = filas[i];
+                for (int j = 0; j < fila.length; j++) {
+                    double esperado = 0.0;
+                    if (p < filas[i + 1] && columnas[p] == j) {
+                        esperado = valores[p++];
+                    }
+                    if (fila[j] != esperado
+                            && Double.doubleToLongBits(fila[j]) != Double.doubleToLongBits(esperado)) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+        
+        @Override
+        public int hashCode() {
+            return (int) (h1 ^ (h1 >>> 32)) * 31 + n;
+        }
+    }
+}
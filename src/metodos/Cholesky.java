@@ -0,0 +1,95 @@
+package metodos;
+
+import circuitos.Circuito;
+
+/**
+ * Resolución por Cholesky para matrices simétricas definidas positivas
+ * Complejidad: O(n³/3), la mitad de operaciones y memoria que LU
+ * 
+ * Si la matriz no es simétrica o resulta no ser definida positiva
+ * durante la factorización, se recurre a LU con pivoteo parcial.
+ */
+public class Cholesky implements MetodoResolucion {
+    private Circuito circuito;
+    private double[] solucion;
+    private long tiempoEjecucion;
+    private EstadoMetodo estado;
+    private boolean usoCholesky;
+    
+    public Cholesky() {
+        this.estado = EstadoMetodo.LISTO;
+    }
+    
+    @Override
+    public String getNombre() {
+        return "Cholesky";
+    }
+    
+    @Override
+    public void setCircuito(Circuito circuito) {
+        this.circuito = circuito;
+        this.estado = EstadoMetodo.LISTO;
+    }
+    
+    @Override
+    public void run() {
+        if (circuito == null) {
+            System.err.println("[" + getNombre() + "] Error: Circuito no establecido");
+            estado = EstadoMetodo.ERROR;
+            return;
+        }
+        
+        System.out.println("[" + getNombre() + "] Iniciando resolución de: " + circuito.getNombre());
+        estado = EstadoMetodo.EJECUTANDO;
+        
+        long inicio = System.nanoTime();
+        try {
+            solucion = resolver(circuito);
+            tiempoEjecucion = (System.nanoTime() - inicio) / 1_000_000;
+            estado = EstadoMetodo.TERMINADO;
+            System.out.println("[" + getNombre() + "] Completado en " + tiempoEjecucion + " ms");
+        } catch (Exception e) {
+            estado = EstadoMetodo.ERROR;
+            System.err.println("[" + getNombre() + "] Error: " + e.getMessage());
+        }
+    }
+    
+    @Override
+    public double[] resolver(Circuito circuito) {
+        double[][] A = circuito.getCoeficientes();
+        double[] b = circuito.getTerminosIndep();
+        
+        if (FactorizacionCholesky.esCandidata(A)) {
+            FactorizacionCholesky cholesky = FactorizacionCholesky.intentar(A);
+            if (cholesky != null) {
+                usoCholesky = true;
+                return cholesky.resolver(b);
+            }
+        }
+        
+        usoCholesky = false;
+        return FactorizacionLU.factorizar(A).resolver(b);
+    }
+    
+    /**
+     * Indica si la última resolución usó Cholesky (false si recurrió a LU)
+     */
+    public boolean isUsoCholesky() {
+        return usoCholesky;
+    }
+    
+    @Override
+    public long getTiempoEjecucion() {
+        return tiempoEjecucion;
+    }
+    
+    @Override
+    public double[] getSolucion() {
+        return solucion;
+    }
+    
+    @Override
+    public EstadoMetodo getEstado() {
+        return estado;
+    }
+}
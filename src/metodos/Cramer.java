@@ -1,21 +1,57 @@
 package metodos;
 
 import circuitos.Circuito;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Implementación de la Regla de Cramer
- * Complejidad: O(n! * n²) - Más lento para matrices grandes
+ * Complejidad: O(n⁴) con determinantes por LU (por defecto)
+ *              O(n! * n²) con expansión por cofactores (opcional)
+ *              O(2ⁿ * n²) con cofactores memoizados en paralelo (opcional, exacto)
+ * Reanudable: revisa la interrupción entre determinantes (en modo memoizado
+ * la tabla de menores se calcula en un solo paso)
  */
-public class Cramer implements MetodoResolucion {
+public class Cramer implements Reanudable {
+    private static final MotorCramer MOTOR = new MotorCramer();
+    
     private Circuito circuito;
     private double[] solucion;
     private long tiempoEjecucion;
     private EstadoMetodo estado;
+    private ModoDeterminante modo;
+    private ForkJoinPool pool;
+    private PuntoControl punto;
+    
+    /**
+     * Estrategias disponibles para calcular los determinantes
+     */
+    public enum ModoDeterminante {
+        LU,                   // Eliminación con pivoteo parcial: O(n³) por determinante
+        COFACTORES,           // Expansión de Laplace clásica: O(n!) por determinante
+        COFACTORES_MEMOIZADO  // Laplace con menores compartidos, columnas en paralelo: O(2ⁿ·n)
+    }
     
     public Cramer() {
+        this(ModoDeterminante.LU);
+    }
+    
+    public Cramer(ModoDeterminante modo) {
+        this(modo, ForkJoinPool.commonPool());
+    }
+    
+    /**
+     * @param pool Pool donde se calculan los determinantes en modo COFACTORES_MEMOIZADO
+     */
+    public Cramer(ModoDeterminante modo, ForkJoinPool pool) {
+        this.modo = modo;
+        this.pool = pool;
         this.estado = EstadoMetodo.LISTO;
     }
     
+    public ModoDeterminante getModo() {
+        return modo;
+    }
+    
     @Override
     public String getNombre() {
         return "Cramer";
@@ -25,6 +61,7 @@ public class Cramer implements MetodoResolucion {
     public void setCircuito(Circuito circuito) {
         this.circuito = circuito;
         this.estado = EstadoMetodo.LISTO;
+        this.punto = null;
     }
     
     @Override
@@ -35,34 +72,170 @@ public class Cramer implements MetodoResolucion {
             return;
         }
         
-        System.out.println("[" + getNombre() + "] Iniciando resolución de: " + circuito.getNombre());
+        if (punto == null) {
+            System.out.println("[" + getNombre() + "] Iniciando resolución de: " + circuito.getNombre());
+            // Paso 0: det(A); paso i + 1: det(Aᵢ)
+            int n = circuito.getNumMallas();
+            punto = new PuntoControl(getNombre(), circuito, n + 1, null, new double[n], new int[1]);
+        } else {
+            System.out.println("[" + getNombre() + "] Reanudando " + circuito.getNombre() + " en " + punto);
+        }
         estado = EstadoMetodo.EJECUTANDO;
         
         long inicio = System.nanoTime();
         try {
-            solucion = resolver(circuito);
-            tiempoEjecucion = (System.nanoTime() - inicio) / 1_000_000;
+            boolean completo = avanzar(punto);
+            punto.nanosAcumulados += System.nanoTime() - inicio;
+            if (!completo) {
+                estado = EstadoMetodo.SUSPENDIDO;
+                System.out.println("[" + getNombre() + "] Suspendido en " + punto);
+                return;
+            }
+            solucion = punto.vector;
+            tiempoEjecucion = punto.nanosAcumulados / 1_000_000;
+            punto = null;
             estado = EstadoMetodo.TERMINADO;
             System.out.println("[" + getNombre() + "] Completado en " + tiempoEjecucion + " ms");
         } catch (Exception e) {
+            punto = null;
             estado = EstadoMetodo.ERROR;
             System.err.println("[" + getNombre() + "] Error: " + e.getMessage());
         }
     }
     
+    /**
+     * Calcula un determinante por paso hasta terminar o hasta que se pida la interrupción
+     * @return true si el vector del punto de control tiene la solución
+     */
+    private boolean avanzar(PuntoControl p) {
+        double[][] A = circuito.getCoeficientes();
+        double[] b = circuito.getTerminosIndep();
+        int n = A.length;
+        
+        if (modo == ModoDeterminante.COFACTORES_MEMOIZADO) {
+            if (p.paso == 0) {
+                System.arraycopy(DeterminantesMemoizados.resolver(A, b, pool), 0, p.vector, 0, n);
+                p.paso = p.pasosTotales;
+            }
+            return true;
+        }
+        
+        while (p.paso < p.pasosTotales) {
+            if (Thread.currentThread().isInterrupted()) {
+                return false;
+            }
+            // det(A) queda como mantisa (escalar) y exponente binario (enteros[0])
+            int[] exponente = EspacioTrabajo.actual().indices(1);
+            if (p.paso == 0) {
+                double mantisaA = determinante(A, -1, b, exponente);
+                MotorCramer.verificar(mantisaA);
+                p.escalar = mantisaA;
+                p.enteros[0] = exponente[0];
+            } else {
+                int i = p.paso - 1;
+                double mantisaI = determinante(A, i, b, exponente);
+                p.vector[i] = MotorCramer.cociente(mantisaI, exponente[0], p.escalar, p.enteros[0]);
+            }
+            p.paso++;
+        }
+        return true;
+    }
+    
+    /**
+     * Determinante de A con la columna indicada reemplazada por b (ninguna si es -1)
+     * @param exponente exponente[0] recibe el exponente binario
+     * @return Mantisa con signo (det = mantisa · 2^exponente[0]); 0 si det(A) es
+     *         despreciable frente a ‖A‖∞ (solo se evalúa con columna -1)
+     */
+    private double determinante(double[][] A, int columna, double[] b, int[] exponente) {
+        int n = A.length;
+        if (modo == ModoDeterminante.LU) {
+            double[] a = EspacioTrabajo.actual().matriz(A);
+            double umbral = columna < 0 ? MotorCramer.umbralPivote(a, n) : 0.0;
+            if (columna >= 0) {
+                for (int j = 0; j < n; j++) {
+                    a[j * n + columna] = b[j];
+                }
+            }
+            return MotorCramer.determinante(a, n, exponente, umbral);
+        }
+        
+        double[][] Ai = copiarMatriz(A);
+        if (columna >= 0) {
+            for (int j = 0; j < n; j++) {
+                Ai[j][columna] = b[j];
+            }
+        }
+        double det = determinantePorCofactores(Ai);
+        if (columna < 0 && casiSingular(det, A)) {
+            det = 0.0;
+        }
+        exponente[0] = 0;
+        return det;
+    }
+    
+    /**
+     * |det(A)| por debajo de (1e-10·‖A‖∞)ⁿ: el equivalente, para un determinante
+     * ya calculado, de que algún pivote sea despreciable frente a la norma
+     */
+    static boolean casiSingular(double det, double[][] A) {
+        int n = A.length;
+        double norma = 0.0;
+        for (double[] fila : A) {
+            double suma = 0.0;
+            for (double v : fila) {
+                suma += Math.abs(v);
+            }
+            norma = Math.max(norma, suma);
+        }
+        return det == 0.0 || Math.abs(det) < Math.pow(1e-10 * norma, n);
+    }
+    
+    /**
+     * El modo memoizado reparte los menores en un ForkJoinPool y no tiene puntos seguros
+     */
+    @Override
+    public boolean admiteSuspension() {
+        return modo != ModoDeterminante.COFACTORES_MEMOIZADO;
+    }
+    
+    @Override
+    public PuntoControl extraerPuntoControl() {
+        PuntoControl p = punto;
+        punto = null;
+        return p;
+    }
+    
+    @Override
+    public void restaurarPuntoControl(PuntoControl punto) {
+        if (punto != null) {
+            punto.verificar(getNombre(), circuito);
+        }
+        this.punto = punto;
+    }
+    
     @Override
     public double[] resolver(Circuito circuito) {
         int n = circuito.getNumMallas();
         double[][] A = circuito.getCoeficientes();
         double[] b = circuito.getTerminosIndep();
+        double[] x = new double[n];
         
-        double detA = calcularDeterminante(A);
+        if (modo == ModoDeterminante.LU) {
+            // Cada Aᵢ se arma en el espacio de trabajo del hilo, sin copias por columna
+            MOTOR.resolver(A, b, x);
+            return x;
+        }
         
-        if (Math.abs(detA) < 1e-10) {
-            throw new ArithmeticException("Sistema sin solución única (det ≈ 0)");
+        if (modo == ModoDeterminante.COFACTORES_MEMOIZADO) {
+            return DeterminantesMemoizados.resolver(A, b, pool);
         }
         
-        double[] x = new double[n];
+        double detA = determinantePorCofactores(A);
+        
+        if (casiSingular(detA, A)) {
+            throw new ArithmeticException("Sistema sin solución única (det ≈ 0)");
+        }
         
         for (int i = 0; i < n; i++) {
             double[][] Ai = copiarMatriz(A);
@@ -70,18 +243,96 @@ public class Cramer implements MetodoResolucion {
                 Ai[j][i] = b[j];
             }
             
-            double detAi = calcularDeterminante(Ai);
-            x[i] = detAi / detA;
+            double detAi = determinantePorCofactores(Ai);
+            x[i] = MotorCramer.cociente(detAi, 0, detA, 0);
         }
         
         return x;
     }
     
+    /**
+     * Regla de Cramer para k vectores de términos independientes
+     * 
+     * Desarrollando det(Aᵢ) por la columna i reemplazada queda
+     * det(Aᵢ) = Σⱼ b[j]·C[j][i], con C la matriz de cofactores de A,
+     * que no depende de b. Se calcula C una sola vez y cada caso cuesta O(n²).
+     */
+    @Override
+    public double[][] resolverMultiple(Circuito circuito, double[][] B) {
+        if (modo == ModoDeterminante.COFACTORES_MEMOIZADO) {
+            // La tabla de menores se arma por filas finales, no da los cofactores de cada fila
+            return Reanudable.super.resolverMultiple(circuito, B);
+        }
+        
+        int n = circuito.getNumMallas();
+        int k = MetodoResolucion.validarTerminos(B, n);
+        double[][] A = circuito.getCoeficientes();
+        
+        double[][] C = new double[n][n];
+        double detA;
+        
+        if (modo == ModoDeterminante.COFACTORES) {
+            for (int j = 0; j < n; j++) {
+                for (int i = 0; i < n; i++) {
+                    double menor = n == 1 ? 1.0 : determinantePorCofactores(obtenerSubmatriz(A, j, i));
+                    C[j][i] = ((i + j) % 2 == 0) ? menor : -menor;
+                }
+            }
+            // det(A) desarrollado por la primera columna, reutilizando los cofactores
+            detA = 0;
+            for (int j = 0; j < n; j++) {
+                detA += A[j][0] * C[j][0];
+            }
+            if (casiSingular(detA, A)) {
+                throw new ArithmeticException("Sistema sin solución única (det ≈ 0)");
+            }
+        } else {
+            FactorizacionLU lu;
+            try {
+                lu = FactorizacionLU.factorizar(A);
+            } catch (ArithmeticException e) {
+                throw new ArithmeticException("Sistema sin solución única (det ≈ 0)");
+            }
+            // C[j][i] = det(A)·(A⁻¹)[i][j]: se guardan los cofactores divididos por
+            // det(A) (que se desbordaría para n grande) y se divide por 1
+            detA = 1.0;
+            double[] e = new double[n];
+            for (int j = 0; j < n; j++) {
+                e[j] = 1.0;
+                double[] columna = lu.resolver(e);
+                e[j] = 0.0;
+                for (int i = 0; i < n; i++) {
+                    C[j][i] = columna[i];
+                }
+            }
+        }
+        
+        double[][] X = new double[n][k];
+        for (int j = 0; j < n; j++) {
+            double[] Cj = C[j];
+            double[] Bj = B[j];
+            for (int i = 0; i < n; i++) {
+                double cji = Cj[i];
+                double[] Xi = X[i];
+                for (int c = 0; c < k; c++) {
+                    Xi[c] += Bj[c] * cji;
+                }
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            for (int c = 0; c < k; c++) {
+                X[i][c] = MotorCramer.cociente(X[i][c], 0, detA, 0);
+            }
+        }
+        
+        return X;
+    }
+    
     /**
      * Calcula el determinante usando expansión por cofactores
      * (recursivo para simplificar, aunque no es el más eficiente)
      */
-    private double calcularDeterminante(double[][] matriz) {
+    private double determinantePorCofactores(double[][] matriz) {
         int n = matriz.length;
         
         if (n == 1) {
@@ -96,7 +347,7 @@ public class Cramer implements MetodoResolucion {
         for (int j = 0; j < n; j++) {
             double[][] submatriz = obtenerSubmatriz(matriz, 0, j);
             double cofactor = Math.pow(-1, j) * matriz[0][j];
-            det += cofactor * calcularDeterminante(submatriz);
+            det += cofactor * determinantePorCofactores(submatriz);
         }
         
         return det;
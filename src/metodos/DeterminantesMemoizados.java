@@ -0,0 +1,134 @@
+package metodos;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Regla de Cramer exacta (expansión de Laplace) con menores memoizados
+ * 
+ * Al desarrollar siempre por la primera fila restante, cada menor queda
+ * determinado por el conjunto S de columnas que conserva (sus filas son las
+ * últimas |S|). Con S como máscara de bits, D[S] se calcula una sola vez:
+ *   D[S] = Σ_{j∈S} (-1)^{posición de j en S} · a[n-|S|][j] · D[S \ {j}]
+ * Esto baja el costo de O(n!) a O(2ⁿ·n) por determinante.
+ * 
+ * Aᵢ solo difiere de A en la columna i, así que los menores que no contienen
+ * la columna i se comparten: cada Aᵢ solo calcula las 2ⁿ⁻¹ máscaras con i,
+ * y las n columnas se resuelven en paralelo en el ForkJoinPool.
+ */
+final class DeterminantesMemoizados {
+    /** 2²² doubles = 32 MB por tabla; por encima la memoria crece sin control */
+    static final int MAX_MALLAS = 22;
+    
+    private DeterminantesMemoizados() {
+    }
+    
+    static double[] resolver(double[][] A, double[] b, ForkJoinPool pool) {
+        int n = A.length;
+        if (n > MAX_MALLAS) {
+            throw new IllegalArgumentException("Demasiadas mallas para Cramer exacto memoizado ("
+                + n + " > " + MAX_MALLAS + ")");
+        }
+        
+        double[] D = menoresDeA(A);
+        double detA = D[(1 << n) - 1];
+        if (Cramer.casiSingular(detA, A)) {
+            throw new ArithmeticException("Sistema sin solución única (det ≈ 0)");
+        }
+        
+        List<DeterminanteColumna> tareas = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            tareas.add(new DeterminanteColumna(A, b, D, i));
+        }
+        
+        double[] x = new double[n];
+        pool.invoke(new RecursiveTask<Void>() {
+            @Override
+            protected Void compute() {
+                invokeAll(tareas);
+                return null;
+            }
+        });
+        for (int i = 0; i < n; i++) {
+            x[i] = MotorCramer.cociente(tareas.get(i).join(), 0, detA, 0);
+        }
+        return x;
+    }
+    
+    /**
+     * Tabla D[S] de todos los menores de A (D[2ⁿ-1] = det A).
+     * Recorrer las máscaras en orden creciente basta: S \ {j} < S.
+     */
+    private static double[] menoresDeA(double[][] A) {
+        int n = A.length;
+        double[] D = new double[1 << n];
+        D[0] = 1.0;
+        for (int S = 1; S < D.length; S++) {
+            double[] fila = A[n - Integer.bitCount(S)];
+            double suma = 0;
+            boolean positivo = true;
+            for (int t = S; t != 0; t &= t - 1) {
+                int j = Integer.numberOfTrailingZeros(t);
+                double termino = fila[j] * D[S & ~(1 << j)];
+                suma += positivo ? termino : -termino;
+                positivo = !positivo;
+            }
+            D[S] = suma;
+        }
+        return D;
+    }
+    
+    /**
+     * det(Aᵢ): solo calcula las máscaras que contienen la columna i, guardadas
+     * en una tabla de 2ⁿ⁻¹ posiciones (se quita el bit i del índice)
+     */
+    private static class DeterminanteColumna extends RecursiveTask<Double> {
+        private static final long serialVersionUID = 1L;
+        
+        private final double[][] A;
+        private final double[] b;
+        private final double[] D;
+        private final int columna;
+        
+        DeterminanteColumna(double[][] A, double[] b, double[] D, int columna) {
+            this.A = A;
+            this.b = b;
+            this.D = D;
+            this.columna = columna;
+        }
+        
+        private int comprimir(int S) {
+            int bajos = S & ((1 << columna) - 1);
+            int altos = (S >>> (columna + 1)) << columna;
+            return bajos | altos;
+        }
+        
+        @Override
+        protected Double compute() {
+            int n = A.length;
+            int bitColumna = 1 << columna;
+            double[] Di = new double[1 << (n - 1)];
+            
+            for (int S = bitColumna; S < (1 << n); S = (S + 1) | bitColumna) {
+                int r = n - Integer.bitCount(S);
+                double[] fila = A[r];
+                double suma = 0;
+                boolean positivo = true;
+                for (int t = S; t != 0; t &= t - 1) {
+                    int j = Integer.numberOfTrailingZeros(t);
+                    int resto = S & ~(1 << j);
+                    double termino = j == columna
+                        ? b[r] * D[resto]                 // el menor ya no tiene la columna i
+                        : fila[j] * Di[comprimir(resto)]; // el menor sigue teniendo la columna i
+                    suma += positivo ? termino : -termino;
+                    positivo = !positivo;
+                }
+                Di[comprimir(S)] = suma;
+            }
+            
+            return Di[comprimir((1 << n) - 1)];
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package metodos;
+
+/**
+ * Memoria de trabajo reutilizable, una por hilo
+ * 
+ * Los motores de resolución piden aquí sus arreglos temporales en lugar de
+ * crearlos en cada llamada. Los arreglos solo crecen, así que tras la primera
+ * resolución de un tamaño dado el camino caliente no asigna memoria. Las
+ * matrices de más de RETENCION_MAXIMA elementos se entregan sin quedar
+ * retenidas: los hilos del pool común viven lo que el proceso, y una sola
+ * resolución grande no debe dejarles n² doubles ocupados para siempre.
+ */
+public final class EspacioTrabajo {
+    private static final ThreadLocal<EspacioTrabajo> POR_HILO = ThreadLocal.withInitial(EspacioTrabajo::new);
+    /** 2²¹ doubles = 16 MB por hilo (n ≈ 1448); por encima, O(n²) de asignación frente a O(n³) de trabajo */
+    static final int RETENCION_MAXIMA = 1 << 21;
+    
+    private double[] matriz = new double[0];
+    private double[] vector = new double[0];
+    private int[] indices = new int[0];
+    
+    private EspacioTrabajo() {
+    }
+    
+    /**
+     * Espacio de trabajo del hilo actual
+     */
+    public static EspacioTrabajo actual() {
+        return POR_HILO.get();
+    }
+    
+    /**
+     * Libera la memoria retenida por el hilo actual
+     */
+    public static void liberar() {
+        POR_HILO.remove();
+    }
+    
+    /**
+     * Arreglo de al menos n·n elementos (contenido indefinido)
+     * @throws IllegalArgumentException si n·n no entra en un arreglo
+     */
+    double[] matriz(int n) {
+        long tamano = (long) n * n;
+        if (tamano > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Matriz de " + n + "×" + n + " demasiado grande para un arreglo");
+        }
+        if (matriz.length >= tamano) {
+            return matriz;
+        }
+        double[] nuevo = new double[(int) tamano];
+        if (tamano <= RETENCION_MAXIMA) {
+            matriz = nuevo;
+        }
+        return nuevo;
+    }
+    
+    /**
+     * Copia A al arreglo de trabajo (en orden por filas) y lo devuelve
+     */
+    double[] matriz(MatrizPlana A) {
+        int n = A.getDimension();
+        double[] destino = matriz(n);
+        System.arraycopy(A.getDatos(), 0, destino, 0, n * n);
+        return destino;
+    }
+    
+    /**
+     * Copia una matriz dentada al arreglo de trabajo (en orden por filas) y lo devuelve
+     */
+    double[] matriz(double[][] A) {
+        int n = A.length;
+        double[] destino = matriz(n);
+        for (int i = 0; i < n; i++) {
+            System.arraycopy(A[i], 0, destino, i * n, n);
+        }
+        return destino;
+    }
+    
+    /**
+     * Arreglo de al menos n elementos (contenido indefinido)
+     */
+    double[] vector(int n) {
+        if (vector.length < n) {
+            vector = new double[n];
+        }
+        return vector;
+    }
+    
+    /**
+     * Arreglo de enteros de al menos n elementos (contenido indefinido)
+     */
+    int[] indices(int n) {
+        if (indices.length < n) {
+            indices = new int[n];
+        }
+        return indices;
+    }
+}
@@ -0,0 +1,44 @@
+package metodos;
+
+/**
+ * Factorización reutilizable de una matriz de coeficientes
+ * Una vez calculada, cada nuevo vector de términos independientes
+ * se resuelve con sustituciones, sin volver a factorizar.
+ */
+public interface Factorizacion {
+    
+    /**
+     * Resuelve A·x = b (no modifica b)
+     */
+    double[] resolver(double[] b);
+    
+    /**
+     * Resuelve A·X = B para una matriz B de n×k (no modifica B)
+     */
+    default double[][] resolverMultiple(double[][] B) {
+        int n = getDimension();
+        int k = MetodoResolucion.validarTerminos(B, n);
+        double[][] X = new double[n][k];
+        double[] b = new double[n];
+        for (int c = 0; c < k; c++) {
+            for (int i = 0; i < n; i++) {
+                b[i] = B[i][c];
+            }
+            double[] x = resolver(b);
+            for (int i = 0; i < n; i++) {
+                X[i][c] = x[i];
+            }
+        }
+        return X;
+    }
+    
+    /**
+     * Dimensión del sistema
+     */
+    int getDimension();
+    
+    /**
+     * Memoria ocupada por los factores, en bytes (aproximada)
+     */
+    long getBytes();
+}
@@ -0,0 +1,122 @@
+package metodos;
+
+/**
+ * Factorización de Cholesky A = L·Lᵀ en almacenamiento triangular empaquetado
+ * 
+ * Solo se guarda el triángulo inferior, fila por fila: L(i, j) está en
+ * l[i·(i+1)/2 + j] para j ≤ i. Usa n·(n+1)/2 valores en lugar de n², y
+ * como cada producto escalar recorre dos filas contiguas es amigable con la caché.
+ */
+public class FactorizacionCholesky implements Factorizacion {
+    private final int n;
+    private final double[] l;
+    
+    private FactorizacionCholesky(int n, double[] l) {
+        this.n = n;
+        this.l = l;
+    }
+    
+    /**
+     * Comprobación barata (O(n²), sin operaciones de punto flotante costosas)
+     * de las condiciones necesarias: simetría y diagonal positiva
+     */
+    public static boolean esCandidata(double[][] A) {
+        int n = A.length;
+        for (int i = 0; i < n; i++) {
+            if (!(A[i][i] > 0.0)) {
+                return false;
+            }
+            for (int j = 0; j < i; j++) {
+                double aij = A[i][j];
+                double aji = A[j][i];
+                if (Math.abs(aij - aji) > 1e-12 * Math.max(Math.abs(aij), Math.abs(aji))) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Intenta factorizar A (se lee solo su triángulo inferior)
+     * @return la factorización, o null si A no es definida positiva
+     */
+    public static FactorizacionCholesky intentar(double[][] A) {
+        int n = A.length;
+        long tamano = (long) n * (n + 1) / 2;
+        if (tamano > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Triángulo de " + n + " filas demasiado grande para un arreglo");
+        }
+        double[] l = new double[(int) tamano];
+        
+        for (int i = 0; i < n; i++) {
+            int filaI = inicioFila(i);
+            for (int j = 0; j <= i; j++) {
+                int filaJ = inicioFila(j);
+                double sum = A[i][j];
+                for (int k = 0; k < j; k++) {
+                    sum -= l[filaI + k] * l[filaJ + k];
+                }
+                if (i == j) {
+                    // Un pivote no positivo prueba que A no es definida positiva
+                    if (!(sum > 0.0)) {
+                        return null;
+                    }
+                    l[filaI + i] = Math.sqrt(sum);
+                } else {
+                    l[filaI + j] = sum / l[filaJ + j];
+                }
+            }
+        }
+        
+        return new FactorizacionCholesky(n, l);
+    }
+    
+    /**
+     * Posición de L(i, 0) en el arreglo empaquetado; i·(i+1) se calcula en long
+     * porque desborda int antes de dividir aunque el total entre en un arreglo
+     */
+    private static int inicioFila(int i) {
+        return (int) ((long) i * (i + 1) / 2);
+    }
+    
+    /**
+     * Resuelve A·x = b con L·y = b y Lᵀ·x = y (O(n²))
+     */
+    @Override
+    public double[] resolver(double[] b) {
+        double[] x = b.clone();
+        
+        // L·y = b, por filas
+        for (int i = 0; i < n; i++) {
+            int filaI = inicioFila(i);
+            double sum = x[i];
+            for (int k = 0; k < i; k++) {
+                sum -= l[filaI + k] * x[k];
+            }
+            x[i] = sum / l[filaI + i];
+        }
+        
+        // Lᵀ·x = y, por columnas de Lᵀ (filas de L) para seguir recorriendo memoria contigua
+        for (int i = n - 1; i >= 0; i--) {
+            int filaI = inicioFila(i);
+            double xi = x[i] / l[filaI + i];
+            x[i] = xi;
+            for (int k = 0; k < i; k++) {
+                x[k] -= l[filaI + k] * xi;
+            }
+        }
+        
+        return x;
+    }
+    
+    @Override
+    public int getDimension() {
+        return n;
+    }
+    
+    @Override
+    public long getBytes() {
+        return 8L * l.length;
+    }
+}
@@ -0,0 +1,262 @@
+package metodos;
+
+/**
+ * Factorización LU con pivoteo parcial (P·A = L·U) almacenada en sitio
+ *
+ * L (diagonal unitaria implícita) y U comparten un único arreglo contiguo
+ * en orden por filas: a[i * n + j]. La factorización procesa la matriz en
+ * bloques de columnas para que el panel activo permanezca en caché.
+ */
+public class FactorizacionLU implements Factorizacion {
+    public static final int BLOQUE_POR_DEFECTO = 64;
+    
+    private final int n;
+    private final double[] lu;
+    private final int[] pivotes;
+    private final int signo;
+    
+    FactorizacionLU(int n, double[] lu, int[] pivotes, int signo) {
+        this.n = n;
+        this.lu = lu;
+        this.pivotes = pivotes;
+        this.signo = signo;
+    }
+    
+    /**
+     * Factoriza una copia de la matriz con el tamaño de bloque por defecto
+     */
+    public static FactorizacionLU factorizar(double[][] A) {
+        return factorizar(A, BLOQUE_POR_DEFECTO);
+    }
+    
+    /**
+     * Factoriza una copia de la matriz
+     * @param A Matriz cuadrada (no se modifica)
+     * @param tamanoBloque Columnas por panel
+     */
+    public static FactorizacionLU factorizar(double[][] A, int tamanoBloque) {
+        int n = A.length;
+        double[] lu = new double[n * n];
+        for (int i = 0; i < n; i++) {
+            System.arraycopy(A[i], 0, lu, i * n, n);
+        }
+        int[] pivotes = new int[n];
+        int signo = factorizarEnSitio(lu, n, pivotes, tamanoBloque);
+        return new FactorizacionLU(n, lu, pivotes, signo);
+    }
+    
+    /**
+     * Núcleo por bloques (right-looking): para cada panel de columnas
+     *  1. factoriza el panel con pivoteo parcial, intercambiando filas completas
+     *  2. resuelve L11 · U12 = A12 para el bloque de filas del panel
+     *  3. actualiza el resto: A22 -= L21 · U12, recorriendo filas contiguas
+     *
+     * @return signo de la permutación (+1 o -1)
+     * @throws ArithmeticException si la matriz es singular
+     */
+    static int factorizarEnSitio(double[] a, int n, int[] pivotes, int tamanoBloque) {
+        int nb = Math.max(1, tamanoBloque);
+        int signo = 1;
+        for (int kb = 0; kb < n; kb += nb) {
+            signo *= factorizarBloque(a, n, pivotes, kb, nb);
+        }
+        return signo;
+    }
+    
+    /**
+     * Procesa el panel que empieza en la columna kb; al terminar, las columnas
+     * anteriores a kb + nb quedan factorizadas y el resto actualizado
+     *
+     * @return signo de los intercambios hechos en este panel
+     */
+    static int factorizarBloque(double[] a, int n, int[] pivotes, int kb, int nb) {
+        int fin = Math.min(kb + nb, n);
+        int signo = 1;
+        
+        // 1. Panel: columnas kb..fin-1
+        for (int k = kb; k < fin; k++) {
+            int p = k;
+            double max = Math.abs(a[k * n + k]);
+            for (int i = k + 1; i < n; i++) {
+                double v = Math.abs(a[i * n + k]);
+                if (v > max) {
+                    max = v;
+                    p = i;
+                }
+            }
+            
+            if (max < 1e-10) {
+                throw new ArithmeticException("Matriz singular o casi singular");
+            }
+            
+            pivotes[k] = p;
+            if (p != k) {
+                intercambiarFilas(a, n, k, p);
+                signo = -signo;
+            }
+            
+            int filaK = k * n;
+            double pivote = a[filaK + k];
+            for (int i = k + 1; i < n; i++) {
+                int filaI = i * n;
+                double l = a[filaI + k] / pivote;
+                a[filaI + k] = l;
+                if (l == 0.0) continue;
+                Nucleos.ACTIVO.axpy(-l, a, filaK + k + 1, a, filaI + k + 1, fin - k - 1);
+            }
+        }
+        
+        if (fin == n) return signo;
+        
+        // 2. U12 = L11⁻¹ · A12
+        for (int k = kb; k < fin; k++) {
+            int filaK = k * n;
+            for (int i = k + 1; i < fin; i++) {
+                int filaI = i * n;
+                double l = a[filaI + k];
+                if (l == 0.0) continue;
+                Nucleos.ACTIVO.axpy(-l, a, filaK + fin, a, filaI + fin, n - fin);
+            }
+        }
+        
+        // 3. A22 -= L21 · U12, en franjas de columnas del tamaño del bloque
+        for (int jb = fin; jb < n; jb += nb) {
+            int finJ = Math.min(jb + nb, n);
+            for (int i = fin; i < n; i++) {
+                int filaI = i * n;
+                for (int k = kb; k < fin; k++) {
+                    double l = a[filaI + k];
+                    if (l == 0.0) continue;
+                    int filaK = k * n;
+                    Nucleos.ACTIVO.axpy(-l, a, filaK + jb, a, filaI + jb, finJ - jb);
+                }
+            }
+        }
+        
+        return signo;
+    }
+    
+    private static void intercambiarFilas(double[] a, int n, int i, int j) {
+        int filaI = i * n;
+        int filaJ = j * n;
+        for (int k = 0; k < n; k++) {
+            double temp = a[filaI + k];
+            a[filaI + k] = a[filaJ + k];
+            a[filaJ + k] = temp;
+        }
+    }
+    
+    /**
+     * Resuelve A·x = b usando la factorización (O(n²))
+     */
+    @Override
+    public double[] resolver(double[] b) {
+        double[] x = b.clone();
+        resolverEnSitio(x);
+        return x;
+    }
+    
+    /**
+     * Resuelve A·x = b sobrescribiendo b con la solución
+     */
+    public void resolverEnSitio(double[] x) {
+        sustituir(lu, n, pivotes, x);
+    }
+    
+    /**
+     * Aplica P y las sustituciones hacia adelante y hacia atrás sobre x, en sitio
+     */
+    static void sustituir(double[] lu, int n, int[] pivotes, double[] x) {
+        // Aplicar permutación P·b
+        for (int k = 0; k < n; k++) {
+            int p = pivotes[k];
+            if (p != k) {
+                double temp = x[k];
+                x[k] = x[p];
+                x[p] = temp;
+            }
+        }
+        
+        // Resolver L·y = P·b (sustitución hacia adelante)
+        for (int i = 0; i < n; i++) {
+            int filaI = i * n;
+            x[i] -= Nucleos.ACTIVO.producto(lu, filaI, x, 0, i);
+        }
+        
+        // Resolver U·x = y (sustitución hacia atrás)
+        for (int i = n - 1; i >= 0; i--) {
+            int filaI = i * n;
+            double sum = x[i] - Nucleos.ACTIVO.producto(lu, filaI + i + 1, x, i + 1, n - i - 1);
+            x[i] = sum / lu[filaI + i];
+        }
+    }
+    
+    /**
+     * Resuelve A·X = B con las k columnas a la vez: cada fila de L y U
+     * se lee una sola vez y actualiza filas contiguas de X
+     */
+    @Override
+    public double[][] resolverMultiple(double[][] B) {
+        int k = MetodoResolucion.validarTerminos(B, n);
+        double[][] X = new double[n][];
+        for (int i = 0; i < n; i++) {
+            X[i] = B[i].clone();
+        }
+        
+        for (int i = 0; i < n; i++) {
+            int p = pivotes[i];
+            if (p != i) {
+                double[] temp = X[i];
+                X[i] = X[p];
+                X[p] = temp;
+            }
+        }
+        
+        for (int i = 0; i < n; i++) {
+            int filaI = i * n;
+            double[] xi = X[i];
+            for (int j = 0; j < i; j++) {
+                double l = lu[filaI + j];
+                if (l == 0.0) continue;
+                Nucleos.ACTIVO.axpy(-l, X[j], 0, xi, 0, k);
+            }
+        }
+        
+        for (int i = n - 1; i >= 0; i--) {
+            int filaI = i * n;
+            double[] xi = X[i];
+            for (int j = i + 1; j < n; j++) {
+                double u = lu[filaI + j];
+                if (u == 0.0) continue;
+                Nucleos.ACTIVO.axpy(-u, X[j], 0, xi, 0, k);
+            }
+            double diag = lu[filaI + i];
+            for (int c = 0; c < k; c++) {
+                xi[c] /= diag;
+            }
+        }
+        
+        return X;
+    }
+    
+    /**
+     * Determinante de A: signo de la permutación por el producto de la diagonal de U
+     */
+    public double determinante() {
+        double det = signo;
+        for (int i = 0; i < n; i++) {
+            det *= lu[i * n + i];
+        }
+        return det;
+    }
+    
+    @Override
+    public int getDimension() {
+        return n;
+    }
+    
+    @Override
+    public long getBytes() {
+        return 8L * lu.length + 4L * pivotes.length;
+    }
+}
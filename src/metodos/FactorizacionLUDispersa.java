@@ -0,0 +1,258 @@
+package metodos;
+
+import circuitos.MatrizCSR;
+import java.util.Arrays;
+
+/**
+ * Factorización LU dispersa (P·A·Q = L·U) por columnas, al estilo Gilbert-Peierls
+ * 
+ * Q es un orden de columnas que reduce el relleno (grado mínimo aproximado por defecto).
+ * Cada columna de L y U sale de resolver L·x = A(:, q[k]) visitando solo las
+ * filas alcanzables en el grafo de L (búsqueda en profundidad), así el costo
+ * es proporcional a los flops reales y no a n². El pivoteo es por umbral:
+ * se conserva la diagonal mientras |a_kk| ≥ umbral · max|a_ik|, para no
+ * deshacer el orden elegido; si no, se toma el mayor de la columna.
+ * Memoria: O(n + nnz(L) + nnz(U)).
+ */
+public class FactorizacionLUDispersa implements Factorizacion {
+    public static final double UMBRAL_PIVOTEO_POR_DEFECTO = 0.1;
+    
+    private final int n;
+    private final int[] lp;
+    private final int[] li;
+    private final double[] lx;
+    private final int[] up;
+    private final int[] ui;
+    private final double[] ux;
+    private final int[] pinv;   // fila original → posición de pivote
+    private final int[] q;      // posición → columna original
+    
+    private FactorizacionLUDispersa(int n, int[] lp, int[] li, double[] lx, int[] up, int[] ui, double[] ux,
+                                    int[] pinv, int[] q) {
+        this.n = n;
+        this.lp = lp;
+        this.li = li;
+        this.lx = lx;
+        this.up = up;
+        this.ui = ui;
+        this.ux = ux;
+        this.pinv = pinv;
+        this.q = q;
+    }
+    
+    /**
+     * Factoriza con orden de grado mínimo aproximado y el umbral de pivoteo por defecto
+     */
+    public static FactorizacionLUDispersa factorizar(MatrizCSR A) {
+        return factorizar(A, Reordenamiento.gradoMinimoAproximado(A), UMBRAL_PIVOTEO_POR_DEFECTO);
+    }
+    
+    /**
+     * @param orden Orden de columnas (orden[k] = columna original en la posición k)
+     * @param umbral Entre 0 y 1: 1 es pivoteo parcial, valores chicos preservan más el orden
+     * @throws ArithmeticException si la matriz es singular
+     */
+    public static FactorizacionLUDispersa factorizar(MatrizCSR A, int[] orden, double umbral) {
+        int n = A.getDimension();
+        // Columnas de A: la transpuesta en CSR es A en CSC
+        MatrizCSR porColumnas = A.transpuesta();
+        int[] ap = porColumnas.getFilas();
+        int[] ai = porColumnas.getColumnas();
+        double[] ax = porColumnas.getValores();
+        
+        int capacidad = 4 * A.getNoNulos() + n;
+        int[] lp = new int[n + 1];
+        int[] li = new int[capacidad];
+        double[] lx = new double[capacidad];
+        int[] up = new int[n + 1];
+        int[] ui = new int[capacidad];
+        double[] ux = new double[capacidad];
+        int lnz = 0;
+        int unz = 0;
+        
+        int[] pinv = new int[n];
+        Arrays.fill(pinv, -1);
+        double[] x = new double[n];
+        int[] alcanzadas = new int[n];
+        int[] pila = new int[n];
+        int[] posPila = new int[n];
+        int[] visita = new int[n];
+        Arrays.fill(visita, -1);
+        
+        for (int k = 0; k < n; k++) {
+            lp[k] = lnz;
+            up[k] = unz;
+            if (lnz + n > li.length) {
+                int c = Math.max(lnz + n, 2 * li.length);
+                li = Arrays.copyOf(li, c);
+                lx = Arrays.copyOf(lx, c);
+            }
+            if (unz + n > ui.length) {
+                int c = Math.max(unz + n, 2 * ui.length);
+                ui = Arrays.copyOf(ui, c);
+                ux = Arrays.copyOf(ux, c);
+            }
+            
+            int col = orden[k];
+            
+            // 1. Patrón de x = L \ A(:, col): filas alcanzables, en orden topológico
+            int tope = n;
+            for (int p = ap[col]; p < ap[col + 1]; p++) {
+                int i = ai[p];
+                if (visita[i] == k) continue;
+                tope = profundidad(i, k, lp, li, pinv, visita, alcanzadas, tope, pila, posPila);
+            }
+            
+            // 2. Sustitución dispersa
+            for (int p = tope; p < n; p++) x[alcanzadas[p]] = 0.0;
+            for (int p = ap[col]; p < ap[col + 1]; p++) x[ai[p]] = ax[p];
+            for (int p = tope; p < n; p++) {
+                int j = alcanzadas[p];
+                int J = pinv[j];
+                if (J < 0) continue;
+                double xj = x[j];
+                // La primera entrada de cada columna de L es el 1 de la diagonal
+                for (int r = lp[J] + 1; r < lp[J + 1]; r++) {
+                    x[li[r]] -= lx[r] * xj;
+                }
+            }
+            
+            // 3. Pivote por umbral, prefiriendo la diagonal
+            int ipiv = -1;
+            double max = -1.0;
+            for (int p = tope; p < n; p++) {
+                int i = alcanzadas[p];
+                if (pinv[i] < 0) {
+                    double v = Math.abs(x[i]);
+                    if (v > max) {
+                        max = v;
+                        ipiv = i;
+                    }
+                } else {
+                    ui[unz] = pinv[i];
+                    ux[unz++] = x[i];
+                }
+            }
+            if (ipiv < 0 || max < 1e-10) {
+                throw new ArithmeticException("Matriz singular o casi singular");
+            }
+            if (pinv[col] < 0 && visita[col] == k && Math.abs(x[col]) >= umbral * max) {
+                ipiv = col;
+            }
+            
+            double pivote = x[ipiv];
+            ui[unz] = k;
+            ux[unz++] = pivote;
+            pinv[ipiv] = k;
+            li[lnz] = ipiv;
+            lx[lnz++] = 1.0;
+            for (int p = tope; p < n; p++) {
+                int i = alcanzadas[p];
+                if (pinv[i] < 0) {
+                    li[lnz] = i;
+                    lx[lnz++] = x[i] / pivote;
+                }
+                x[i] = 0.0;
+            }
+        }
+        lp[n] = lnz;
+        up[n] = unz;
+        
+        // Las filas de L pasan a numerarse por posición de pivote
+        for (int p = 0; p < lnz; p++) {
+            li[p] = pinv[li[p]];
+        }
+        
+        return new FactorizacionLUDispersa(n, lp, Arrays.copyOf(li, lnz), Arrays.copyOf(lx, lnz),
+            up, Arrays.copyOf(ui, unz), Arrays.copyOf(ux, unz), pinv, orden.clone());
+    }
+    
+    /**
+     * Búsqueda en profundidad no recursiva desde la fila j en el grafo de L;
+     * deja las filas alcanzadas en alcanzadas[tope..n) en orden topológico
+     */
+    private static int profundidad(int j, int k, int[] lp, int[] li, int[] pinv, int[] visita,
+                                   int[] alcanzadas, int tope, int[] pila, int[] posPila) {
+        int cabeza = 0;
+        pila[0] = j;
+        while (cabeza >= 0) {
+            j = pila[cabeza];
+            int J = pinv[j];
+            if (visita[j] != k) {
+                visita[j] = k;
+                posPila[cabeza] = J < 0 ? 0 : lp[J] + 1;
+            }
+            boolean terminada = true;
+            int fin = J < 0 ? 0 : lp[J + 1];
+            for (int p = posPila[cabeza]; p < fin; p++) {
+                int i = li[p];
+                if (visita[i] == k) continue;
+                posPila[cabeza] = p + 1;
+                pila[++cabeza] = i;
+                terminada = false;
+                break;
+            }
+            if (terminada) {
+                cabeza--;
+                alcanzadas[--tope] = j;
+            }
+        }
+        return tope;
+    }
+    
+    /**
+     * Resuelve A·x = b con una sustitución hacia adelante y otra hacia atrás: O(nnz(L) + nnz(U))
+     */
+    @Override
+    public double[] resolver(double[] b) {
+        double[] x = new double[n];
+        for (int i = 0; i < n; i++) {
+            x[pinv[i]] = b[i];
+        }
+        
+        for (int j = 0; j < n; j++) {
+            double xj = x[j];
+            if (xj == 0.0) continue;
+            for (int p = lp[j] + 1; p < lp[j + 1]; p++) {
+                x[li[p]] -= lx[p] * xj;
+            }
+        }
+        
+        for (int j = n - 1; j >= 0; j--) {
+            int diag = up[j + 1] - 1;
+            double xj = x[j] / ux[diag];
+            x[j] = xj;
+            if (xj == 0.0) continue;
+            for (int p = up[j]; p < diag; p++) {
+                x[ui[p]] -= ux[p] * xj;
+            }
+        }
+        
+        double[] solucion = new double[n];
+        for (int k = 0; k < n; k++) {
+            solucion[q[k]] = x[k];
+        }
+        return solucion;
+    }
+    
+    /**
+     * No nulos de L (con la diagonal unitaria) y de U
+     */
+    public long getNoNulosFactores() {
+        return (long) lp[n] + up[n];
+    }
+    
+    public int getNoNulosL() {
+        return lp[n];
+    }
+    
+    @Override
+    public int getDimension() {
+        return n;
+    }
+    
+    @Override
+    public long getBytes() {
+        return 12L * (lp[n] + up[n]) + 4L * (4 * n + 2);
+    }
+}
\ No newline at end of file
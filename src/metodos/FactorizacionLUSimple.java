@@ -0,0 +1,164 @@
+package metodos;
+
+/**
+ * Factorización LU por bloques en precisión simple (float)
+ * 
+ * Misma organización que FactorizacionLU pero con la mitad de bytes por
+ * elemento: para matrices grandes la eliminación está limitada por el ancho
+ * de banda de memoria, y con float cada línea de caché y cada vector SIMD
+ * llevan el doble de coeficientes. La solución resultante tiene unos 7
+ * dígitos; LUPrecisionMixta la refina en double.
+ */
+final class FactorizacionLUSimple implements Factorizacion {
+    private final int n;
+    private final float[] lu;
+    private final int[] pivotes;
+    
+    private FactorizacionLUSimple(int n, float[] lu, int[] pivotes) {
+        this.n = n;
+        this.lu = lu;
+        this.pivotes = pivotes;
+    }
+    
+    /**
+     * Redondea A a float y la factoriza
+     * @throws ArithmeticException si algún coeficiente no entra en float o la matriz es singular
+     */
+    static FactorizacionLUSimple factorizar(double[][] A, int tamanoBloque) {
+        int n = A.length;
+        float[] a = new float[n * n];
+        for (int i = 0; i < n; i++) {
+            double[] fila = A[i];
+            int filaI = i * n;
+            for (int j = 0; j < n; j++) {
+                float v = (float) fila[j];
+                if (Float.isInfinite(v)) {
+                    throw new ArithmeticException("Coeficiente fuera del rango de float");
+                }
+                a[filaI + j] = v;
+            }
+        }
+        
+        int[] pivotes = new int[n];
+        int nb = Math.max(1, tamanoBloque);
+        for (int kb = 0; kb < n; kb += nb) {
+            factorizarBloque(a, n, pivotes, kb, nb);
+        }
+        return new FactorizacionLUSimple(n, a, pivotes);
+    }
+    
+    /**
+     * Panel kb..kb+nb-1, resolución de U12 y actualización del resto (ver FactorizacionLU)
+     */
+    private static void factorizarBloque(float[] a, int n, int[] pivotes, int kb, int nb) {
+        int fin = Math.min(kb + nb, n);
+        
+        for (int k = kb; k < fin; k++) {
+            int p = k;
+            float max = Math.abs(a[k * n + k]);
+            for (int i = k + 1; i < n; i++) {
+                float v = Math.abs(a[i * n + k]);
+                if (v > max) {
+                    max = v;
+                    p = i;
+                }
+            }
+            
+            // También descarta pivotes NaN o infinitos por desborde en float
+            if (!(max >= 1e-10f) || Float.isInfinite(max)) {
+                throw new ArithmeticException("Matriz singular o casi singular en precisión simple");
+            }
+            
+            pivotes[k] = p;
+            if (p != k) {
+                int filaK = k * n;
+                int filaP = p * n;
+                for (int j = 0; j < n; j++) {
+                    float temp = a[filaK + j];
+                    a[filaK + j] = a[filaP + j];
+                    a[filaP + j] = temp;
+                }
+            }
+            
+            int filaK = k * n;
+            float pivote = a[filaK + k];
+            for (int i = k + 1; i < n; i++) {
+                int filaI = i * n;
+                float l = a[filaI + k] / pivote;
+                a[filaI + k] = l;
+                if (l == 0.0f) continue;
+                Nucleos.ACTIVO.axpy(-l, a, filaK + k + 1, a, filaI + k + 1, fin - k - 1);
+            }
+        }
+        
+        if (fin == n) return;
+        
+        for (int k = kb; k < fin; k++) {
+            int filaK = k * n;
+            for (int i = k + 1; i < fin; i++) {
+                int filaI = i * n;
+                float l = a[filaI + k];
+                if (l == 0.0f) continue;
+                Nucleos.ACTIVO.axpy(-l, a, filaK + fin, a, filaI + fin, n - fin);
+            }
+        }
+        
+        for (int jb = fin; jb < n; jb += nb) {
+            int finJ = Math.min(jb + nb, n);
+            for (int i = fin; i < n; i++) {
+                int filaI = i * n;
+                for (int k = kb; k < fin; k++) {
+                    float l = a[filaI + k];
+                    if (l == 0.0f) continue;
+                    Nucleos.ACTIVO.axpy(-l, a, k * n + jb, a, filaI + jb, finJ - jb);
+                }
+            }
+        }
+    }
+    
+    /**
+     * Resuelve A·x = b en float y devuelve el resultado en double (O(n²))
+     */
+    @Override
+    public double[] resolver(double[] b) {
+        float[] x = new float[n];
+        for (int i = 0; i < n; i++) {
+            x[i] = (float) b[i];
+        }
+        
+        for (int k = 0; k < n; k++) {
+            int p = pivotes[k];
+            if (p != k) {
+                float temp = x[k];
+                x[k] = x[p];
+                x[p] = temp;
+            }
+        }
+        
+        for (int i = 0; i < n; i++) {
+            x[i] -= Nucleos.ACTIVO.producto(lu, i * n, x, 0, i);
+        }
+        
+        for (int i = n - 1; i >= 0; i--) {
+            int filaI = i * n;
+            float sum = x[i] - Nucleos.ACTIVO.producto(lu, filaI + i + 1, x, i + 1, n - i - 1);
+            x[i] = sum / lu[filaI + i];
+        }
+        
+        double[] resultado = new double[n];
+        for (int i = 0; i < n; i++) {
+            resultado[i] = x[i];
+        }
+        return resultado;
+    }
+    
+    @Override
+    public int getDimension() {
+        return n;
+    }
+    
+    @Override
+    public long getBytes() {
+        return 4L * lu.length + 4L * pivotes.length;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,355 @@
+package metodos;
+
+import circuitos.MatrizCSR;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Factorización por subestructuración (descomposición de dominio)
+ *
+ * Las mallas se reparten en k subdominios y una interfaz Γ que los separa:
+ * ninguna malla de un subdominio se acopla con otra de un subdominio
+ * distinto. Con las interiores de cada subdominio primero, el sistema es
+ *
+ *     | A_11          A_1Γ |
+ *     |       ...     ...  |
+ *     |          A_kk A_kΓ |
+ *     | A_Γ1 ... A_Γk A_ΓΓ |
+ *
+ * y cada A_ii se factoriza con LU dispersa en paralelo, junto con su aporte
+ * al complemento de Schur S = A_ΓΓ - Σ A_Γi · A_ii⁻¹ · A_iΓ. S es denso pero
+ * del tamaño de la interfaz, y se factoriza con LU por bloques. Cada
+ * resolución reduce b hacia la interfaz, resuelve S y vuelve a sustituir en
+ * los subdominios, otra vez en paralelo.
+ *
+ * La partición corta en k tramos iguales el orden de Cuthill-McKee inverso:
+ * los tramos son conjuntos de niveles consecutivos, así que la interfaz es
+ * la frontera entre niveles (del orden de √n mallas en una grilla plana).
+ * El pivoteo queda dentro de cada bloque, lo que alcanza para las matrices
+ * diagonalmente dominantes de los circuitos.
+ */
+public class FactorizacionSchur implements Factorizacion {
+    private final int n;
+    private final ForkJoinPool pool;
+    private final Subdominio[] subdominios;
+    private final int[] interfaz;          // posición en la interfaz → malla original
+    private final FactorizacionLU schur;   // null si la interfaz está vacía
+    
+    private FactorizacionSchur(int n, ForkJoinPool pool, Subdominio[] subdominios, int[] interfaz,
+                               FactorizacionLU schur) {
+        this.n = n;
+        this.pool = pool;
+        this.subdominios = subdominios;
+        this.interfaz = interfaz;
+        this.schur = schur;
+    }
+    
+    /**
+     * @param particiones Cantidad de subdominios (k ≥ 1)
+     * @param pool Pool donde se factorizan y resuelven los subdominios
+     * @throws ArithmeticException si algún bloque interior o S es singular
+     */
+    public static FactorizacionSchur factorizar(MatrizCSR A, int particiones, ForkJoinPool pool) {
+        if (particiones < 1) {
+            throw new IllegalArgumentException("Se necesita al menos una partición: " + particiones);
+        }
+        int n = A.getDimension();
+        int[] filas = A.getFilas();
+        int[] columnas = A.getColumnas();
+        double[] valores = A.getValores();
+        int k = Math.max(1, Math.min(particiones, n));
+        
+        // 1. Partición en tramos del orden RCM; -1 marca la interfaz
+        int[] orden = Reordenamiento.cuthillMcKeeInverso(A);
+        int[] parte = new int[n];
+        for (int t = 0; t < n; t++) {
+            parte[orden[t]] = (int) ((long) t * k / n);
+        }
+        // De cada acople entre subdominios distintos, la malla del de mayor índice pasa a la interfaz
+        int[] tramo = parte.clone();
+        for (int i = 0; i < n; i++) {
+            for (int p = filas[i]; p < filas[i + 1]; p++) {
+                int j = columnas[p];
+                if (tramo[i] != tramo[j]) {
+                    parte[tramo[i] > tramo[j] ? i : j] = -1;
+                }
+            }
+        }
+        
+        // 2. Numeración local: posición dentro del subdominio o de la interfaz
+        int[] local = new int[n];
+        int[] tamanos = new int[k];
+        int m = 0;
+        for (int i = 0; i < n; i++) {
+            local[i] = parte[i] < 0 ? m++ : tamanos[parte[i]]++;
+        }
+        int[] interfaz = new int[m];
+        int[][] nodos = new int[k][];
+        for (int s = 0; s < k; s++) {
+            nodos[s] = new int[tamanos[s]];
+        }
+        for (int i = 0; i < n; i++) {
+            if (parte[i] < 0) {
+                interfaz[local[i]] = i;
+            } else {
+                nodos[parte[i]][local[i]] = i;
+            }
+        }
+        
+        // 3. Bloques de cada subdominio y A_ΓΓ, en una pasada por las filas
+        Subdominio[] subdominios = new Subdominio[k];
+        for (int s = 0; s < k; s++) {
+            subdominios[s] = new Subdominio(nodos[s]);
+        }
+        double[][] S = new double[m][m];
+        for (int i = 0; i < n; i++) {
+            int si = parte[i];
+            for (int p = filas[i]; p < filas[i + 1]; p++) {
+                int j = columnas[p];
+                int sj = parte[j];
+                if (si >= 0 && sj >= 0) {
+                    subdominios[si].interior.agregar(local[i], local[j], valores[p]);
+                } else if (si >= 0) {
+                    subdominios[si].haciaInterfaz.add(new Acople(local[i], local[j], valores[p]));
+                } else if (sj >= 0) {
+                    subdominios[sj].desdeInterfaz.add(new Acople(local[i], local[j], valores[p]));
+                } else {
+                    S[local[i]][local[j]] += valores[p];
+                }
+            }
+        }
+        
+        // Un tramo puede quedar entero en la interfaz
+        subdominios = Arrays.stream(subdominios).filter(sub -> sub.nodos.length > 0).toArray(Subdominio[]::new);
+        
+        // 4. Factorizar los subdominios y sus aportes a S en paralelo
+        List<RecursiveAction> tareas = new ArrayList<>();
+        for (Subdominio sub : subdominios) {
+            tareas.add(new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    sub.factorizar();
+                }
+            });
+        }
+        ejecutar(pool, tareas);
+        
+        for (Subdominio sub : subdominios) {
+            sub.restarAporte(S);
+        }
+        FactorizacionLU schur = m > 0 ? FactorizacionLU.factorizar(S) : null;
+        return new FactorizacionSchur(n, pool, subdominios, interfaz, schur);
+    }
+    
+    private static void ejecutar(ForkJoinPool pool, List<RecursiveAction> tareas) {
+        pool.invoke(new RecursiveAction() {
+            @Override
+            protected void compute() {
+                invokeAll(tareas);
+            }
+        });
+    }
+    
+    /**
+     * Resuelve A·x = b: reducción a la interfaz, S·x_Γ = b̃_Γ y sustitución en los subdominios
+     */
+    @Override
+    public double[] resolver(double[] b) {
+        int m = interfaz.length;
+        double[] bInterfaz = new double[m];
+        for (int c = 0; c < m; c++) {
+            bInterfaz[c] = b[interfaz[c]];
+        }
+        
+        // b̃_Γ = b_Γ - Σ A_Γi · A_ii⁻¹ · b_i
+        double[][] reducciones = new double[subdominios.length][];
+        List<RecursiveAction> tareas = new ArrayList<>();
+        for (int s = 0; s < subdominios.length; s++) {
+            int indice = s;
+            tareas.add(new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    reducciones[indice] = subdominios[indice].reducir(b, m);
+                }
+            });
+        }
+        ejecutar(pool, tareas);
+        for (double[] reduccion : reducciones) {
+            for (int c = 0; c < m; c++) {
+                bInterfaz[c] -= reduccion[c];
+            }
+        }
+        
+        double[] x = new double[n];
+        double[] xInterfaz = schur != null ? schur.resolver(bInterfaz) : bInterfaz;
+        for (int c = 0; c < m; c++) {
+            x[interfaz[c]] = xInterfaz[c];
+        }
+        
+        // x_i = A_ii⁻¹ · (b_i - A_iΓ · x_Γ); cada subdominio escribe solo sus mallas
+        tareas.clear();
+        for (Subdominio sub : subdominios) {
+            tareas.add(new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    sub.sustituir(b, xInterfaz, x);
+                }
+            });
+        }
+        ejecutar(pool, tareas);
+        return x;
+    }
+    
+    /**
+     * Coeficiente (fila local, columna local) de un bloque de acople con la interfaz
+     */
+    private static final class Acople {
+        final int fila;
+        final int columna;
+        final double valor;
+        
+        Acople(int fila, int columna, double valor) {
+            this.fila = fila;
+            this.columna = columna;
+            this.valor = valor;
+        }
+    }
+    
+    /**
+     * Mallas interiores de un subdominio, sus acoples con la interfaz y su factorización
+     */
+    private static final class Subdominio {
+        final int[] nodos;
+        final MatrizCSR.Ensamblador interior;
+        final List<Acople> haciaInterfaz = new ArrayList<>();   // A_iΓ: fila interior, columna de interfaz
+        final List<Acople> desdeInterfaz = new ArrayList<>();   // A_Γi: fila de interfaz, columna interior
+        FactorizacionLUDispersa lu;
+        int[] vecinas;          // mallas de la interfaz acopladas a este subdominio
+        double[][] aporte;      // A_Γi · A_ii⁻¹ · A_iΓ restringido a vecinas × vecinas
+        
+        Subdominio(int[] nodos) {
+            this.nodos = nodos;
+            this.interior = new MatrizCSR.Ensamblador(nodos.length);
+        }
+        
+        void factorizar() {
+            int m = nodos.length;
+            lu = FactorizacionLUDispersa.factorizar(interior.construir());
+            
+            // Solo las columnas de la interfaz que tocan el subdominio aportan a S
+            int[] columnasUsadas = new int[haciaInterfaz.size() + desdeInterfaz.size()];
+            int cantidad = 0;
+            for (Acople a : haciaInterfaz) columnasUsadas[cantidad++] = a.columna;
+            for (Acople a : desdeInterfaz) columnasUsadas[cantidad++] = a.fila;
+            vecinas = Arrays.stream(columnasUsadas, 0, cantidad).sorted().distinct().toArray();
+            int g = vecinas.length;
+            
+            // Columnas de A_iΓ y filas de A_Γi agrupadas por vecina
+            double[][] columnasIGamma = new double[g][];
+            List<List<Acople>> filasGammaI = new ArrayList<>();
+            for (int c = 0; c < g; c++) {
+                filasGammaI.add(new ArrayList<>());
+            }
+            for (Acople a : haciaInterfaz) {
+                int c = Arrays.binarySearch(vecinas, a.columna);
+                if (columnasIGamma[c] == null) columnasIGamma[c] = new double[m];
+                columnasIGamma[c][a.fila] += a.valor;
+            }
+            for (Acople a : desdeInterfaz) {
+                filasGammaI.get(Arrays.binarySearch(vecinas, a.fila)).add(a);
+            }
+            
+            aporte = new double[g][g];
+            for (int c = 0; c < g; c++) {
+                if (columnasIGamma[c] == null) continue;
+                double[] y = lu.resolver(columnasIGamma[c]);
+                for (int d = 0; d < g; d++) {
+                    double suma = 0.0;
+                    for (Acople a : filasGammaI.get(d)) {
+                        suma += a.valor * y[a.columna];
+                    }
+                    aporte[d][c] = suma;
+                }
+            }
+        }
+        
+        void restarAporte(double[][] S) {
+            for (int d = 0; d < vecinas.length; d++) {
+                double[] fila = S[vecinas[d]];
+                for (int c = 0; c < vecinas.length; c++) {
+                    fila[vecinas[c]] -= aporte[d][c];
+                }
+            }
+            aporte = null;
+        }
+        
+        /**
+         * A_Γi · A_ii⁻¹ · b_i, como vector de la interfaz completa
+         */
+        double[] reducir(double[] b, int m) {
+            double[] bi = new double[nodos.length];
+            for (int r = 0; r < nodos.length; r++) {
+                bi[r] = b[nodos[r]];
+            }
+            double[] y = lu.resolver(bi);
+            double[] reduccion = new double[m];
+            for (Acople a : desdeInterfaz) {
+                reduccion[a.fila] += a.valor * y[a.columna];
+            }
+            return reduccion;
+        }
+        
+        void sustituir(double[] b, double[] xInterfaz, double[] x) {
+            double[] bi = new double[nodos.length];
+            for (int r = 0; r < nodos.length; r++) {
+                bi[r] = b[nodos[r]];
+            }
+            for (Acople a : haciaInterfaz) {
+                bi[a.fila] -= a.valor * xInterfaz[a.columna];
+            }
+            double[] xi = lu.resolver(bi);
+            for (int r = 0; r < nodos.length; r++) {
+                x[nodos[r]] = xi[r];
+            }
+        }
+    }
+    
+    public int getParticiones() {
+        return subdominios.length;
+    }
+    
+    /**
+     * Mallas de la interfaz (dimensión del complemento de Schur)
+     */
+    public int getTamanoInterfaz() {
+        return interfaz.length;
+    }
+    
+    /**
+     * Mallas interiores del subdominio más grande
+     */
+    public int getMayorSubdominio() {
+        int mayor = 0;
+        for (Subdominio sub : subdominios) {
+            mayor = Math.max(mayor, sub.nodos.length);
+        }
+        return mayor;
+    }
+    
+    @Override
+    public int getDimension() {
+        return n;
+    }
+    
+    @Override
+    public long getBytes() {
+        long bytes = schur != null ? schur.getBytes() : 0;
+        for (Subdominio sub : subdominios) {
+            bytes += sub.lu.getBytes() + 20L * (sub.haciaInterfaz.size() + sub.desdeInterfaz.size());
+        }
+        return bytes;
+    }
+}
\ No newline at end of file
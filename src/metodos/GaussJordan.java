@@ -1,16 +1,21 @@
 package metodos;
 
 import circuitos.Circuito;
+import circuitos.MatrizFueraHeap;
 
 /**
  * Implementación del método de Gauss-Jordan
  * Complejidad: O(n³)
+ * Reanudable: revisa la interrupción entre pivotes
  */
-public class GaussJordan implements MetodoResolucion {
+public class GaussJordan implements Reanudable {
+    private static final MotorGaussJordan MOTOR = new MotorGaussJordan();
+    
     private Circuito circuito;
     private double[] solucion;
     private long tiempoEjecucion;
     private EstadoMetodo estado;
+    private PuntoControl punto;
     
     public GaussJordan() {
         this.estado = EstadoMetodo.LISTO;
@@ -25,6 +30,7 @@ public class GaussJordan implements MetodoResolucion {
     public void setCircuito(Circuito circuito) {
         this.circuito = circuito;
         this.estado = EstadoMetodo.LISTO;
+        this.punto = null;
     }
     
     @Override
@@ -35,69 +41,154 @@ public class GaussJordan implements MetodoResolucion {
             return;
         }
         
-        System.out.println("[" + getNombre() + "] Iniciando resolución de: " + circuito.getNombre());
+        if (punto == null) {
+            System.out.println("[" + getNombre() + "] Iniciando resolución de: " + circuito.getNombre());
+            // Fuera del heap no se arma punto de control (sería una copia en el heap)
+            if (!circuito.esFueraHeap()) {
+                int n = circuito.getNumMallas();
+                double[] a = new double[n * n];
+                double[][] A = circuito.getCoeficientes();
+                for (int i = 0; i < n; i++) {
+                    System.arraycopy(A[i], 0, a, i * n, n);
+                }
+                punto = new PuntoControl(getNombre(), circuito, n, a, circuito.getTerminosIndep().clone(), null);
+            }
+        } else {
+            System.out.println("[" + getNombre() + "] Reanudando " + circuito.getNombre() + " en " + punto);
+        }
         estado = EstadoMetodo.EJECUTANDO;
         
         long inicio = System.nanoTime();
         try {
-            solucion = resolver(circuito);
-            tiempoEjecucion = (System.nanoTime() - inicio) / 1_000_000; // Convertir a ms
+            if (punto == null) {
+                solucion = resolver(circuito);
+                tiempoEjecucion = (System.nanoTime() - inicio) / 1_000_000;
+                estado = EstadoMetodo.TERMINADO;
+                System.out.println("[" + getNombre() + "] Completado en " + tiempoEjecucion + " ms");
+                return;
+            }
+            boolean completo = avanzar(punto);
+            punto.nanosAcumulados += System.nanoTime() - inicio;
+            if (!completo) {
+                estado = EstadoMetodo.SUSPENDIDO;
+                System.out.println("[" + getNombre() + "] Suspendido en " + punto);
+                return;
+            }
+            solucion = punto.vector;
+            tiempoEjecucion = punto.nanosAcumulados / 1_000_000; // Convertir a ms
+            punto = null;
             estado = EstadoMetodo.TERMINADO;
             System.out.println("[" + getNombre() + "] Completado en " + tiempoEjecucion + " ms");
         } catch (Exception e) {
+            punto = null;
             estado = EstadoMetodo.ERROR;
             System.err.println("[" + getNombre() + "] Error: " + e.getMessage());
         }
     }
     
+    /**
+     * Elimina pivote por pivote hasta terminar o hasta que se pida la interrupción
+     * @return true si la matriz quedó reducida y el vector tiene la solución
+     */
+    private static boolean avanzar(PuntoControl p) {
+        int n = p.pasosTotales;
+        while (p.paso < n) {
+            if (Thread.currentThread().isInterrupted()) {
+                return false;
+            }
+            MotorGaussJordan.eliminarColumna(p.matriz, n, p.vector, p.paso);
+            p.paso++;
+        }
+        return true;
+    }
+    
+    @Override
+    public PuntoControl extraerPuntoControl() {
+        PuntoControl p = punto;
+        punto = null;
+        return p;
+    }
+    
+    @Override
+    public void restaurarPuntoControl(PuntoControl punto) {
+        if (punto != null) {
+            punto.verificar(getNombre(), circuito);
+        }
+        this.punto = punto;
+    }
+    
     @Override
     public double[] resolver(Circuito circuito) {
+        if (circuito.esFueraHeap()) {
+            // Copia de trabajo también fuera del heap, liberada al terminar
+            double[] x = circuito.getTerminosIndep().clone();
+            try (MatrizFueraHeap a = circuito.getCoeficientesFueraHeap().copiar()) {
+                MotorGaussJordan.eliminar(a, x);
+            }
+            return x;
+        }
+        // La eliminación trabaja sobre el espacio del hilo: no copia la matriz del circuito
+        double[] x = new double[circuito.getNumMallas()];
+        MOTOR.resolver(circuito.getCoeficientes(), circuito.getTerminosIndep(), x);
+        return x;
+    }
+    
+    /**
+     * Gauss-Jordan sobre la matriz ampliada [A | B]: una sola eliminación
+     * reduce A a la identidad y deja las k soluciones en B
+     */
+    @Override
+    public double[][] resolverMultiple(Circuito circuito, double[][] B) {
         int n = circuito.getNumMallas();
-        
-        // Copiar matrices para no modificar originales
+        int k = MetodoResolucion.validarTerminos(B, n);
         double[][] A = copiarMatriz(circuito.getCoeficientes());
-        double[] b = circuito.getTerminosIndep().clone();
+        double[][] X = new double[n][];
+        for (int i = 0; i < n; i++) {
+            X[i] = B[i].clone();
+        }
         
-        // Eliminación hacia adelante con pivoteo parcial
         for (int i = 0; i < n; i++) {
-            // Encontrar pivote máximo
             int maxRow = i;
-            for (int k = i + 1; k < n; k++) {
-                if (Math.abs(A[k][i]) > Math.abs(A[maxRow][i])) {
-                    maxRow = k;
+            for (int r = i + 1; r < n; r++) {
+                if (Math.abs(A[r][i]) > Math.abs(A[maxRow][i])) {
+                    maxRow = r;
                 }
             }
             
-            // Intercambiar filas si es necesario
             if (maxRow != i) {
-                intercambiarFilas(A, b, i, maxRow);
+                double[] tempRow = A[i];
+                A[i] = A[maxRow];
+                A[maxRow] = tempRow;
+                tempRow = X[i];
+                X[i] = X[maxRow];
+                X[maxRow] = tempRow;
             }
             
-            // Verificar singularidad
             if (Math.abs(A[i][i]) < 1e-10) {
                 throw new ArithmeticException("Matriz singular o casi singular");
             }
             
-            // Normalizar fila pivote
             double pivote = A[i][i];
             for (int j = i; j < n; j++) {
                 A[i][j] /= pivote;
             }
-            b[i] /= pivote;
+            for (int c = 0; c < k; c++) {
+                X[i][c] /= pivote;
+            }
             
-            // Eliminar columna en otras filas
-            for (int k = 0; k < n; k++) {
-                if (k != i) {
-                    double factor = A[k][i];
-                    for (int j = i; j < n; j++) {
-                        A[k][j] -= factor * A[i][j];
+            for (int r = 0; r < n; r++) {
+                if (r != i) {
+                    double factor = A[r][i];
+                    if (factor == 0.0) continue;
+                    Nucleos.ACTIVO.axpy(-factor, A[i], i, A[r], i, n - i);
+                    for (int c = 0; c < k; c++) {
+                        X[r][c] -= factor * X[i][c];
                     }
-                    b[k] -= factor * b[i];
                 }
             }
         }
         
-        return b; // La matriz está en forma reducida, b contiene la solución
+        return X;
     }
     
     private double[][] copiarMatriz(double[][] original) {
@@ -109,16 +200,6 @@ public class GaussJordan implements MetodoResolucion {
         return copia;
     }
     
-    private void intercambiarFilas(double[][] A, double[] b, int i, int j) {
-        double[] tempRow = A[i];
-        A[i] = A[j];
-        A[j] = tempRow;
-        
-        double tempB = b[i];
-        b[i] = b[j];
-        b[j] = tempB;
-    }
-    
     @Override
     public long getTiempoEjecucion() {
         return tiempoEjecucion;
@@ -0,0 +1,200 @@
+package metodos;
+
+import circuitos.Circuito;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Gauss-Jordan con la fase de eliminación repartida en un ForkJoinPool
+ * Complejidad: O(n³) dividido entre los núcleos disponibles
+ *
+ * Para cada pivote, la actualización de las demás filas es independiente,
+ * así que se divide el rango de filas en tareas. Por debajo del umbral
+ * de tamaño el sistema se resuelve en serie para no pagar la coordinación.
+ */
+public class GaussJordanParalelo implements MetodoResolucion {
+    public static final int UMBRAL_POR_DEFECTO = 128;
+    private static final int FILAS_MINIMAS_POR_TAREA = 16;
+    
+    private Circuito circuito;
+    private double[] solucion;
+    private long tiempoEjecucion;
+    private EstadoMetodo estado;
+    private final ForkJoinPool pool;
+    private final int umbral;
+    
+    public GaussJordanParalelo() {
+        this(ForkJoinPool.commonPool(), UMBRAL_POR_DEFECTO);
+    }
+    
+    /**
+     * @param pool Pool donde se ejecutan las eliminaciones
+     * @param umbral Cantidad de mallas por debajo de la cual se resuelve en serie
+     */
+    public GaussJordanParalelo(ForkJoinPool pool, int umbral) {
+        this.pool = pool;
+        this.umbral = umbral;
+        this.estado = EstadoMetodo.LISTO;
+    }
+    
+    @Override
+    public String getNombre() {
+        return "Gauss-Jordan-Paralelo";
+    }
+    
+    @Override
+    public void setCircuito(Circuito circuito) {
+        this.circuito = circuito;
+        this.estado = EstadoMetodo.LISTO;
+    }
+    
+    @Override
+    public void run() {
+        if (circuito == null) {
+            System.err.println("[" + getNombre() + "] Error: Circuito no establecido");
+            estado = EstadoMetodo.ERROR;
+            return;
+        }
+        
+        System.out.println("[" + getNombre() + "] Iniciando resolución de: " + circuito.getNombre());
+        estado = EstadoMetodo.EJECUTANDO;
+        
+        long inicio = System.nanoTime();
+        try {
+            solucion = resolver(circuito);
+            tiempoEjecucion = (System.nanoTime() - inicio) / 1_000_000;
+            estado = EstadoMetodo.TERMINADO;
+            System.out.println("[" + getNombre() + "] Completado en " + tiempoEjecucion + " ms");
+        } catch (Exception e) {
+            estado = EstadoMetodo.ERROR;
+            System.err.println("[" + getNombre() + "] Error: " + e.getMessage());
+        }
+    }
+    
+    @Override
+    public double[] resolver(Circuito circuito) {
+        int n = circuito.getNumMallas();
+        boolean paralelo = n >= umbral && pool.getParallelism() > 1;
+        
+        // Copiar matrices para no modificar originales
+        double[][] A = copiarMatriz(circuito.getCoeficientes());
+        double[] b = circuito.getTerminosIndep().clone();
+        
+        for (int i = 0; i < n; i++) {
+            // Encontrar pivote máximo
+            int maxRow = i;
+            for (int k = i + 1; k < n; k++) {
+                if (Math.abs(A[k][i]) > Math.abs(A[maxRow][i])) {
+                    maxRow = k;
+                }
+            }
+            
+            if (maxRow != i) {
+                intercambiarFilas(A, b, i, maxRow);
+            }
+            
+            if (Math.abs(A[i][i]) < 1e-10) {
+                throw new ArithmeticException("Matriz singular o casi singular");
+            }
+            
+            // Normalizar fila pivote
+            double pivote = A[i][i];
+            for (int j = i; j < n; j++) {
+                A[i][j] /= pivote;
+            }
+            b[i] /= pivote;
+            
+            // Eliminar columna en otras filas
+            if (paralelo) {
+                pool.invoke(new Eliminacion(A, b, i, 0, n));
+            } else {
+                eliminarFilas(A, b, i, 0, n);
+            }
+        }
+        
+        return b;
+    }
+    
+    /**
+     * Resta la fila pivote a las filas [desde, hasta), salvo la propia fila pivote
+     */
+    private static void eliminarFilas(double[][] A, double[] b, int i, int desde, int hasta) {
+        int n = A.length;
+        double[] filaPivote = A[i];
+        double bPivote = b[i];
+        for (int k = desde; k < hasta; k++) {
+            if (k == i) continue;
+            double[] fila = A[k];
+            double factor = fila[i];
+            if (factor == 0.0) continue;
+            Nucleos.ACTIVO.axpy(-factor, filaPivote, i, fila, i, n - i);
+            b[k] -= factor * bPivote;
+        }
+    }
+    
+    /**
+     * Tarea fork/join que divide el rango de filas a eliminar
+     */
+    private static class Eliminacion extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        
+        private final double[][] A;
+        private final double[] b;
+        private final int pivote;
+        private final int desde;
+        private final int hasta;
+        
+        Eliminacion(double[][] A, double[] b, int pivote, int desde, int hasta) {
+            this.A = A;
+            this.b = b;
+            this.pivote = pivote;
+            this.desde = desde;
+            this.hasta = hasta;
+        }
+        
+        @Override
+        protected void compute() {
+            if (hasta - desde <= FILAS_MINIMAS_POR_TAREA) {
+                eliminarFilas(A, b, pivote, desde, hasta);
+                return;
+            }
+            int medio = (desde + hasta) >>> 1;
+            invokeAll(new Eliminacion(A, b, pivote, desde, medio),
+                      new Eliminacion(A, b, pivote, medio, hasta));
+        }
+    }
+    
+    private double[][] copiarMatriz(double[][] original) {
+        int n = original.length;
+        double[][] copia = new double[n][n];
+        for (int i = 0; i < n; i++) {
+            copia[i] = original[i].clone();
+        }
+        return copia;
+    }
+    
+    private void intercambiarFilas(double[][] A, double[] b, int i, int j) {
+        double[] tempRow = A[i];
+        A[i] = A[j];
+        A[j] = tempRow;
+        
+        double tempB = b[i];
+        b[i] = b[j];
+        b[j] = tempB;
+    }
+    
+    @Override
+    public long getTiempoEjecucion() {
+        return tiempoEjecucion;
+    }
+    
+    @Override
+    public double[] getSolucion() {
+        return solucion;
+    }
+    
+    @Override
+    public EstadoMetodo getEstado() {
+        return estado;
+    }
+}
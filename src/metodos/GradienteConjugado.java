@@ -0,0 +1,340 @@
+package metodos;
+
+import circuitos.Circuito;
+import circuitos.MatrizCSR;
+
+/**
+ * Gradiente Conjugado Precondicionado (PCG) para matrices simétricas definidas positivas
+ * Complejidad: O(nnz) por iteración y O(n + nnz) de memoria
+ * 
+ * Solo necesita productos matriz-vector, por lo que trabaja sobre la forma
+ * dispersa (CSR) de los coeficientes. Apto para circuitos muy grandes donde
+ * los métodos directos no entran en memoria.
+ */
+public class GradienteConjugado implements MetodoResolucion {
+    public static final double TOLERANCIA_POR_DEFECTO = 1e-10;
+    public static final int ITERACIONES_MAX_POR_DEFECTO = 10_000;
+    
+    private Circuito circuito;
+    private double[] solucion;
+    private long tiempoEjecucion;
+    private EstadoMetodo estado;
+    private final Precondicionador precondicionador;
+    private final double tolerancia;
+    private final int iteracionesMaximas;
+    private int iteraciones;
+    private double residuo;
+    private Precondicionador precondicionadorUsado;
+    
+    /**
+     * Precondicionadores disponibles
+     */
+    public enum Precondicionador {
+        NINGUNO,            // CG sin precondicionar
+        JACOBI,             // Inversa de la diagonal: O(n)
+        CHOLESKY_INCOMPLETO // IC(0): Cholesky restringido al patrón de A
+    }
+    
+    public GradienteConjugado() {
+        this(Precondicionador.JACOBI, TOLERANCIA_POR_DEFECTO, ITERACIONES_MAX_POR_DEFECTO);
+    }
+    
+    /**
+     * @param precondicionador Precondicionador a aplicar
+     * @param tolerancia Residuo relativo ||b - A·x|| / ||b|| objetivo
+     * @param iteracionesMaximas Límite de iteraciones antes de declarar que no converge
+     */
+    public GradienteConjugado(Precondicionador precondicionador, double tolerancia, int iteracionesMaximas) {
+        this.precondicionador = precondicionador;
+        this.tolerancia = tolerancia;
+        this.iteracionesMaximas = iteracionesMaximas;
+        this.estado = EstadoMetodo.LISTO;
+    }
+    
+    @Override
+    public String getNombre() {
+        return "Gradiente-Conjugado";
+    }
+    
+    @Override
+    public void setCircuito(Circuito circuito) {
+        this.circuito = circuito;
+        this.estado = EstadoMetodo.LISTO;
+    }
+    
+    @Override
+    public void run() {
+        if (circuito == null) {
+            System.err.println("[" + getNombre() + "] Error: Circuito no establecido");
+            estado = EstadoMetodo.ERROR;
+            return;
+        }
+        
+        System.out.println("[" + getNombre() + "] Iniciando resolución de: " + circuito.getNombre());
+        estado = EstadoMetodo.EJECUTANDO;
+        
+        long inicio = System.nanoTime();
+        try {
+            solucion = resolver(circuito);
+            tiempoEjecucion = (System.nanoTime() - inicio) / 1_000_000;
+            estado = EstadoMetodo.TERMINADO;
+            System.out.println("[" + getNombre() + "] Completado en " + tiempoEjecucion + " ms ("
+                + iteraciones + " iteraciones, residuo " + String.format("%.2e", residuo) + ")");
+        } catch (Exception e) {
+            estado = EstadoMetodo.ERROR;
+            System.err.println("[" + getNombre() + "] Error: " + e.getMessage());
+        }
+    }
+    
+    @Override
+    public double[] resolver(Circuito circuito) {
+        return resolver(circuito.getCoeficientesDispersos(), circuito.getTerminosIndep());
+    }
+    
+    /**
+     * Resuelve A·x = b directamente sobre la forma dispersa
+     * @throws ArithmeticException si no alcanza la tolerancia en el límite de iteraciones
+     */
+    public double[] resolver(MatrizCSR A, double[] b) {
+        int n = A.getDimension();
+        Aplicador M = crearPrecondicionador(A);
+        
+        double[] x = new double[n];
+        double[] r = b.clone();
+        double[] z = new double[n];
+        double[] p = new double[n];
+        double[] q = new double[n];
+        
+        double normaB = norma(b);
+        if (normaB == 0.0) {
+            iteraciones = 0;
+            residuo = 0.0;
+            return x;
+        }
+        
+        M.aplicar(r, z);
+        System.arraycopy(z, 0, p, 0, n);
+        double rz = producto(r, z);
+        
+        iteraciones = 0;
+        residuo = 1.0;
+        while (iteraciones < iteracionesMaximas) {
+            A.multiplicar(p, q);
+            double pq = producto(p, q);
+            if (!(pq > 0.0)) {
+                throw new ArithmeticException("La matriz no es definida positiva (pᵀ·A·p ≤ 0)");
+            }
+            
+            double alfa = rz / pq;
+            for (int i = 0; i < n; i++) {
+                x[i] += alfa * p[i];
+                r[i] -= alfa * q[i];
+            }
+            iteraciones++;
+            
+            residuo = norma(r) / normaB;
+            if (residuo <= tolerancia) {
+                return x;
+            }
+            
+            M.aplicar(r, z);
+            double rzNuevo = producto(r, z);
+            double beta = rzNuevo / rz;
+            rz = rzNuevo;
+            for (int i = 0; i < n; i++) {
+                p[i] = z[i] + beta * p[i];
+            }
+        }
+        
+        throw new ArithmeticException("Gradiente conjugado no convergió en " + iteracionesMaximas
+            + " iteraciones (residuo " + String.format("%.2e", residuo) + ")");
+    }
+    
+    /**
+     * z = M⁻¹·r
+     */
+    private interface Aplicador {
+        void aplicar(double[] r, double[] z);
+    }
+    
+    private Aplicador crearPrecondicionador(MatrizCSR A) {
+        if (precondicionador == Precondicionador.CHOLESKY_INCOMPLETO) {
+            CholeskyIncompleto ic = CholeskyIncompleto.intentar(A);
+            if (ic != null) {
+                precondicionadorUsado = Precondicionador.CHOLESKY_INCOMPLETO;
+                return ic::aplicar;
+            }
+            // IC(0) puede fallar aunque A sea definida positiva: se usa Jacobi
+        }
+        
+        if (precondicionador == Precondicionador.NINGUNO) {
+            precondicionadorUsado = Precondicionador.NINGUNO;
+            return (r, z) -> System.arraycopy(r, 0, z, 0, r.length);
+        }
+        
+        precondicionadorUsado = Precondicionador.JACOBI;
+        int n = A.getDimension();
+        double[] inversaDiagonal = new double[n];
+        for (int i = 0; i < n; i++) {
+            double d = A.get(i, i);
+            if (d == 0.0) {
+                throw new ArithmeticException("Diagonal nula en la fila " + i);
+            }
+            inversaDiagonal[i] = 1.0 / d;
+        }
+        return (r, z) -> {
+            for (int i = 0; i < r.length; i++) {
+                z[i] = inversaDiagonal[i] * r[i];
+            }
+        };
+    }
+    
+    /**
+     * Factorización de Cholesky incompleta IC(0): L conserva exactamente
+     * el patrón del triángulo inferior de A, sin relleno
+     */
+    private static class CholeskyIncompleto {
+        private final int n;
+        private final int[] filas;
+        private final int[] columnas;
+        private final double[] valores; // la diagonal es la última entrada de cada fila
+        
+        private CholeskyIncompleto(int n, int[] filas, int[] columnas, double[] valores) {
+            this.n = n;
+            this.filas = filas;
+            this.columnas = columnas;
+            this.valores = valores;
+        }
+        
+        static CholeskyIncompleto intentar(MatrizCSR A) {
+            int n = A.getDimension();
+            int[] aFilas = A.getFilas();
+            int[] aColumnas = A.getColumnas();
+            double[] aValores = A.getValores();
+            
+            // Extraer el triángulo inferior (columnas ≤ i); la diagonal debe existir
+            int[] filas = new int[n + 1];
+            for (int i = 0; i < n; i++) {
+                int cuenta = 0;
+                for (int k = aFilas[i]; k < aFilas[i + 1] && aColumnas[k] <= i; k++) {
+                    cuenta++;
+                }
+                filas[i + 1] = filas[i] + cuenta;
+            }
+            int[] columnas = new int[filas[n]];
+            double[] valores = new double[filas[n]];
+            for (int i = 0; i < n; i++) {
+                int pos = filas[i];
+                for (int k = aFilas[i]; k < aFilas[i + 1] && aColumnas[k] <= i; k++) {
+                    columnas[pos] = aColumnas[k];
+                    valores[pos] = aValores[k];
+                    pos++;
+                }
+                if (pos == filas[i] || columnas[pos - 1] != i) {
+                    return null;
+                }
+            }
+            
+            for (int i = 0; i < n; i++) {
+                int diagI = filas[i + 1] - 1;
+                for (int a = filas[i]; a < diagI; a++) {
+                    int j = columnas[a];
+                    // Producto de las filas i y j sobre columnas < j (intersección de patrones)
+                    double sum = valores[a];
+                    int pi = filas[i];
+                    int pj = filas[j];
+                    int diagJ = filas[j + 1] - 1;
+                    while (pi < a && pj < diagJ) {
+                        int ci = columnas[pi];
+                        int cj = columnas[pj];
+                        if (ci == cj) {
+                            sum -= valores[pi] * valores[pj];
+                            pi++;
+                            pj++;
+                        } else if (ci < cj) {
+                            pi++;
+                        } else {
+                            pj++;
+                        }
+                    }
+                    valores[a] = sum / valores[diagJ];
+                }
+                
+                double d = valores[diagI];
+                for (int a = filas[i]; a < diagI; a++) {
+                    d -= valores[a] * valores[a];
+                }
+                if (!(d > 0.0)) {
+                    return null;
+                }
+                valores[diagI] = Math.sqrt(d);
+            }
+            
+            return new CholeskyIncompleto(n, filas, columnas, valores);
+        }
+        
+        /**
+         * z = (L·Lᵀ)⁻¹·r
+         */
+        void aplicar(double[] r, double[] z) {
+            for (int i = 0; i < n; i++) {
+                int diag = filas[i + 1] - 1;
+                double sum = r[i];
+                for (int k = filas[i]; k < diag; k++) {
+                    sum -= valores[k] * z[columnas[k]];
+                }
+                z[i] = sum / valores[diag];
+            }
+            for (int i = n - 1; i >= 0; i--) {
+                int diag = filas[i + 1] - 1;
+                double zi = z[i] / valores[diag];
+                z[i] = zi;
+                for (int k = filas[i]; k < diag; k++) {
+                    z[columnas[k]] -= valores[k] * zi;
+                }
+            }
+        }
+    }
+    
+    private static double producto(double[] a, double[] b) {
+        double sum = 0;
+        for (int i = 0; i < a.length; i++) {
+            sum += a[i] * b[i];
+        }
+        return sum;
+    }
+    
+    private static double norma(double[] v) {
+        return Math.sqrt(producto(v, v));
+    }
+    
+    public int getIteraciones() {
+        return iteraciones;
+    }
+    
+    /**
+     * Residuo relativo ||b - A·x|| / ||b|| de la última resolución
+     */
+    public double getResiduo() {
+        return residuo;
+    }
+    
+    public Precondicionador getPrecondicionadorUsado() {
+        return precondicionadorUsado;
+    }
+    
+    @Override
+    public long getTiempoEjecucion() {
+        return tiempoEjecucion;
+    }
+    
+    @Override
+    public double[] getSolucion() {
+        return solucion;
+    }
+    
+    @Override
+    public EstadoMetodo getEstado() {
+        return estado;
+    }
+}
@@ -0,0 +1,74 @@
+package metodos;
+
+import circuitos.Circuito;
+
+/**
+ * Resolución por LU para matrices banda
+ * Complejidad: O(n·b²) en tiempo y O(n·b) en memoria, con b el ancho de banda
+ */
+public class LUBanda implements MetodoResolucion {
+    private Circuito circuito;
+    private double[] solucion;
+    private long tiempoEjecucion;
+    private EstadoMetodo estado;
+    
+    public LUBanda() {
+        this.estado = EstadoMetodo.LISTO;
+    }
+    
+    @Override
+    public String getNombre() {
+        return "LU-Banda";
+    }
+    
+    @Override
+    public void setCircuito(Circuito circuito) {
+        this.circuito = circuito;
+        this.estado = EstadoMetodo.LISTO;
+    }
+    
+    @Override
+    public void run() {
+        if (circuito == null) {
+            System.err.println("[" + getNombre() + "] Error: Circuito no establecido");
+            estado = EstadoMetodo.ERROR;
+            return;
+        }
+        
+        System.out.println("[" + getNombre() + "] Iniciando resolución de: " + circuito.getNombre());
+        estado = EstadoMetodo.EJECUTANDO;
+        
+        long inicio = System.nanoTime();
+        try {
+            solucion = resolver(circuito);
+            tiempoEjecucion = (System.nanoTime() - inicio) / 1_000_000;
+            estado = EstadoMetodo.TERMINADO;
+            System.out.println("[" + getNombre() + "] Completado en " + tiempoEjecucion + " ms");
+        } catch (Exception e) {
+            estado = EstadoMetodo.ERROR;
+            System.err.println("[" + getNombre() + "] Error: " + e.getMessage());
+        }
+    }
+    
+    @Override
+    public double[] resolver(Circuito circuito) {
+        MatrizBanda banda = MatrizBanda.desde(circuito);
+        banda.factorizar();
+        return banda.resolver(circuito.getTerminosIndep());
+    }
+    
+    @Override
+    public long getTiempoEjecucion() {
+        return tiempoEjecucion;
+    }
+    
+    @Override
+    public double[] getSolucion() {
+        return solucion;
+    }
+    
+    @Override
+    public EstadoMetodo getEstado() {
+        return estado;
+    }
+}
@@ -0,0 +1,110 @@
+package metodos;
+
+import circuitos.Circuito;
+import circuitos.MatrizCSR;
+
+/**
+ * Resolución por LU dispersa con orden de grado mínimo aproximado y pivoteo por umbral
+ * Complejidad: proporcional al relleno, O(nnz(L) + nnz(U)) de memoria
+ * 
+ * Trabaja directamente sobre la forma CSR del circuito; con circuitos densos
+ * primero los comprime.
+ */
+public class LUDispersa implements MetodoResolucion {
+    private Circuito circuito;
+    private double[] solucion;
+    private long tiempoEjecucion;
+    private EstadoMetodo estado;
+    private final double umbral;
+    private long noNulosFactores;
+    
+    public LUDispersa() {
+        this(FactorizacionLUDispersa.UMBRAL_PIVOTEO_POR_DEFECTO);
+    }
+    
+    /**
+     * @param umbral Umbral de pivoteo en (0, 1]; 1 equivale a pivoteo parcial
+     */
+    public LUDispersa(double umbral) {
+        this.umbral = umbral;
+        this.estado = EstadoMetodo.LISTO;
+    }
+    
+    @Override
+    public String getNombre() {
+        return "LU-Dispersa";
+    }
+    
+    @Override
+    public void setCircuito(Circuito circuito) {
+        this.circuito = circuito;
+        this.estado = EstadoMetodo.LISTO;
+    }
+    
+    @Override
+    public void run() {
+        if (circuito == null) {
+            System.err.println("[" + getNombre() + "] Error: Circuito no establecido");
+            estado = EstadoMetodo.ERROR;
+            return;
+        }
+        
+        System.out.println("[" + getNombre() + "] Iniciando resolución de: " + circuito.getNombre());
+        estado = EstadoMetodo.EJECUTANDO;
+        
+        long inicio = System.nanoTime();
+        try {
+            solucion = resolver(circuito);
+            tiempoEjecucion = (System.nanoTime() - inicio) / 1_000_000;
+            estado = EstadoMetodo.TERMINADO;
+            System.out.println("[" + getNombre() + "] Completado en " + tiempoEjecucion + " ms ("
+                + noNulosFactores + " no nulos en L y U)");
+        } catch (Exception e) {
+            estado = EstadoMetodo.ERROR;
+            System.err.println("[" + getNombre() + "] Error: " + e.getMessage());
+        }
+    }
+    
+    @Override
+    public double[] resolver(Circuito circuito) {
+        return factorizar(circuito).resolver(circuito.getTerminosIndep());
+    }
+    
+    /**
+     * Una sola factorización y k pares de sustituciones
+     */
+    @Override
+    public double[][] resolverMultiple(Circuito circuito, double[][] B) {
+        MetodoResolucion.validarTerminos(B, circuito.getNumMallas());
+        return factorizar(circuito).resolverMultiple(B);
+    }
+    
+    private FactorizacionLUDispersa factorizar(Circuito circuito) {
+        MatrizCSR A = circuito.getCoeficientesDispersos();
+        FactorizacionLUDispersa f = FactorizacionLUDispersa.factorizar(A, Reordenamiento.gradoMinimoAproximado(A), umbral);
+        noNulosFactores = f.getNoNulosFactores();
+        return f;
+    }
+    
+    /**
+     * No nulos de L y U en la última factorización (mide el relleno)
+     */
+    public long getNoNulosFactores() {
+        return noNulosFactores;
+    }
+    
+    @Override
+    public long getTiempoEjecucion() {
+        return tiempoEjecucion;
+    }
+    
+    @Override
+    public double[] getSolucion() {
+        return solucion;
+    }
+    
+    @Override
+    public EstadoMetodo getEstado() {
+        return estado;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,334 @@
+package metodos;
+
+import circuitos.Circuito;
+import circuitos.MatrizFueraHeap;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * LU fuera de núcleo para sistemas que no entran en memoria
+ * Complejidad: O(n³) en cómputo, O(n³ / w) bytes leídos y O(n²) escritos
+ * 
+ * La matriz se guarda por columnas en un archivo temporal que se accede con
+ * FileChannel.map. Se factoriza por paneles de w columnas (left-looking):
+ * cada panel se lee una vez, recibe las actualizaciones de todas las columnas
+ * ya factorizadas (leídas en tramos secuenciales), se factoriza en memoria y
+ * se escribe una sola vez. El ancho del panel y de los tramos sale del
+ * presupuesto de memoria, así que el tamaño máximo lo pone el disco.
+ * 
+ * Los pivotes quedan en forma LINPACK: los intercambios de filas no se
+ * aplican a las columnas de L ya escritas, y la sustitución los aplica en orden.
+ */
+public class LUFueraDeNucleo implements MetodoResolucion {
+    public static final long PRESUPUESTO_POR_DEFECTO = 64L * 1024 * 1024;
+    
+    private Circuito circuito;
+    private double[] solucion;
+    private long tiempoEjecucion;
+    private EstadoMetodo estado;
+    private final long presupuestoBytes;
+    private final Path directorio;
+    private long bytesLeidos;
+    private long bytesEscritos;
+    private int paneles;
+    
+    public LUFueraDeNucleo() {
+        this(PRESUPUESTO_POR_DEFECTO, null);
+    }
+    
+    /**
+     * @param presupuestoBytes Memoria para el panel activo y el tramo de columnas leído;
+     *                         al resolver debe alcanzar al menos para una columna de
+     *                         cada uno (16·n bytes)
+     * @param directorio Dónde crear el archivo temporal (null: directorio temporal del sistema)
+     */
+    public LUFueraDeNucleo(long presupuestoBytes, Path directorio) {
+        if (presupuestoBytes < 1024) {
+            throw new IllegalArgumentException("El presupuesto de memoria es demasiado chico");
+        }
+        this.presupuestoBytes = presupuestoBytes;
+        this.directorio = directorio;
+        this.estado = EstadoMetodo.LISTO;
+    }
+    
+    @Override
+    public String getNombre() {
+        return "LU-Fuera-De-Núcleo";
+    }
+    
+    @Override
+    public void setCircuito(Circuito circuito) {
+        this.circuito = circuito;
+        this.estado = EstadoMetodo.LISTO;
+    }
+    
+    @Override
+    public void run() {
+        if (circuito == null) {
+            System.err.println("[" + getNombre() + "] Error: Circuito no establecido");
+            estado = EstadoMetodo.ERROR;
+            return;
+        }
+        
+        System.out.println("[" + getNombre() + "] Iniciando resolución de: " + circuito.getNombre());
+        estado = EstadoMetodo.EJECUTANDO;
+        
+        long inicio = System.nanoTime();
+        try {
+            solucion = resolver(circuito);
+            tiempoEjecucion = (System.nanoTime() - inicio) / 1_000_000;
+            estado = EstadoMetodo.TERMINADO;
+            System.out.println("[" + getNombre() + "] Completado en " + tiempoEjecucion + " ms ("
+                + paneles + " paneles, " + (bytesLeidos >> 20) + " MB leídos, "
+                + (bytesEscritos >> 20) + " MB escritos)");
+        } catch (Exception e) {
+            estado = EstadoMetodo.ERROR;
+            System.err.println("[" + getNombre() + "] Error: " + e.getMessage());
+        }
+    }
+    
+    @Override
+    public double[] resolver(Circuito circuito) {
+        int n = circuito.getNumMallas();
+        if (presupuestoBytes < 16L * n) {
+            throw new IllegalArgumentException("El presupuesto de memoria (" + presupuestoBytes
+                + " bytes) no alcanza para una columna del panel y otra del tramo: se necesitan "
+                + 16L * n + " bytes");
+        }
+        // Mitad del presupuesto para el panel, mitad para el tramo de columnas ya factorizadas
+        int ancho = (int) Math.max(1, Math.min(n, presupuestoBytes / 2 / (8L * Math.max(1, n))));
+        bytesLeidos = 0;
+        bytesEscritos = 0;
+        paneles = 0;
+        
+        Path archivo = null;
+        try {
+            archivo = directorio != null
+                ? Files.createTempFile(directorio, "lu-fuera-de-nucleo", ".bin")
+                : Files.createTempFile("lu-fuera-de-nucleo", ".bin");
+            try (FileChannel canal = FileChannel.open(archivo, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE, StandardOpenOption.DELETE_ON_CLOSE)) {
+                volcar(circuito, canal, ancho);
+                int[] pivotes = factorizar(canal, n, ancho);
+                return sustituir(canal, n, ancho, pivotes, circuito.getTerminosIndep().clone());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo usar el archivo temporal", e);
+        } finally {
+            if (archivo != null) {
+                try {
+                    Files.deleteIfExists(archivo);
+                } catch (IOException e) {
+                    // DELETE_ON_CLOSE ya lo intentó; queda en el directorio temporal
+                }
+            }
+        }
+    }
+    
+    /**
+     * Escribe los coeficientes por columnas, en tramos de `ancho` columnas
+     */
+    private void volcar(Circuito circuito, FileChannel canal, int ancho) throws IOException {
+        int n = circuito.getNumMallas();
+        double[] tramo = new double[n * ancho];
+        for (int j0 = 0; j0 < n; j0 += ancho) {
+            int w = Math.min(ancho, n - j0);
+            for (int c = 0; c < w; c++) {
+                for (int i = 0; i < n; i++) {
+                    tramo[c * n + i] = circuito.getCoeficiente(i, j0 + c);
+                }
+            }
+            escribir(canal, n, j0, w, tramo);
+        }
+    }
+    
+    /**
+     * Factorización por paneles, left-looking
+     * @return pivotes en forma LINPACK
+     */
+    private int[] factorizar(FileChannel canal, int n, int ancho) throws IOException {
+        int[] pivotes = new int[n];
+        double[] panel = new double[n * ancho];
+        double[] tramo = new double[n * ancho];
+        
+        for (int j0 = 0; j0 < n; j0 += ancho) {
+            int w = Math.min(ancho, n - j0);
+            leer(canal, n, j0, w, panel);
+            
+            // Actualizaciones pendientes de las columnas 0..j0-1, leídas en orden
+            for (int k0 = 0; k0 < j0; k0 += ancho) {
+                int t = Math.min(ancho, j0 - k0);
+                leer(canal, n, k0, t, tramo);
+                for (int k = k0; k < k0 + t; k++) {
+                    intercambiar(panel, n, 0, w, k, pivotes[k]);
+                    int columnaL = (k - k0) * n;
+                    for (int c = 0; c < w; c++) {
+                        double u = panel[c * n + k];
+                        if (u == 0.0) continue;
+                        Nucleos.ACTIVO.axpy(-u, tramo, columnaL + k + 1, panel, c * n + k + 1, n - k - 1);
+                    }
+                }
+            }
+            
+            // Factorizar el panel en memoria
+            for (int c = 0; c < w; c++) {
+                int j = j0 + c;
+                int columna = c * n;
+                int p = j;
+                double max = Math.abs(panel[columna + j]);
+                for (int i = j + 1; i < n; i++) {
+                    double v = Math.abs(panel[columna + i]);
+                    if (v > max) {
+                        max = v;
+                        p = i;
+                    }
+                }
+                
+                if (max < 1e-10) {
+                    throw new ArithmeticException("Matriz singular o casi singular");
+                }
+                
+                pivotes[j] = p;
+                // Forma LINPACK: las columnas de L ya terminadas (0..c-1) no se tocan
+                intercambiar(panel, n, c, w, j, p);
+                
+                double pivote = panel[columna + j];
+                for (int i = j + 1; i < n; i++) {
+                    panel[columna + i] /= pivote;
+                }
+                for (int c2 = c + 1; c2 < w; c2++) {
+                    double u = panel[c2 * n + j];
+                    if (u == 0.0) continue;
+                    Nucleos.ACTIVO.axpy(-u, panel, columna + j + 1, panel, c2 * n + j + 1, n - j - 1);
+                }
+            }
+            
+            escribir(canal, n, j0, w, panel);
+            paneles++;
+        }
+        
+        return pivotes;
+    }
+    
+    /**
+     * Hacia adelante con L (pivotes en orden) y hacia atrás con U, ambas por columnas
+     */
+    private double[] sustituir(FileChannel canal, int n, int ancho, int[] pivotes, double[] x) throws IOException {
+        double[] tramo = new double[n * ancho];
+        
+        for (int k0 = 0; k0 < n; k0 += ancho) {
+            int t = Math.min(ancho, n - k0);
+            leer(canal, n, k0, t, tramo);
+            for (int k = k0; k < k0 + t; k++) {
+                int p = pivotes[k];
+                if (p != k) {
+                    double temp = x[k];
+                    x[k] = x[p];
+                    x[p] = temp;
+                }
+                if (x[k] != 0.0) {
+                    Nucleos.ACTIVO.axpy(-x[k], tramo, (k - k0) * n + k + 1, x, k + 1, n - k - 1);
+                }
+            }
+        }
+        
+        int ultimo = ((n - 1) / ancho) * ancho;
+        for (int k0 = ultimo; k0 >= 0; k0 -= ancho) {
+            int t = Math.min(ancho, n - k0);
+            leer(canal, n, k0, t, tramo);
+            for (int k = k0 + t - 1; k >= k0; k--) {
+                int columna = (k - k0) * n;
+                x[k] /= tramo[columna + k];
+                if (x[k] != 0.0) {
+                    Nucleos.ACTIVO.axpy(-x[k], tramo, columna, x, 0, k);
+                }
+            }
+        }
+        
+        return x;
+    }
+    
+    /**
+     * Intercambia las filas i y p en las columnas [desde, w) del panel
+     */
+    private static void intercambiar(double[] panel, int n, int desde, int w, int i, int p) {
+        if (i == p) return;
+        for (int c = desde; c < w; c++) {
+            int columna = c * n;
+            double temp = panel[columna + i];
+            panel[columna + i] = panel[columna + p];
+            panel[columna + p] = temp;
+        }
+    }
+    
+    /**
+     * Lee las columnas [j0, j0 + w) mapeando solo esa región del archivo
+     */
+    private void leer(FileChannel canal, int n, int j0, int w, double[] destino) throws IOException {
+        long largo = 8L * n * w;
+        MappedByteBuffer region = canal.map(FileChannel.MapMode.READ_ONLY, 8L * n * j0, largo);
+        try {
+            DoubleBuffer datos = region.order(ByteOrder.nativeOrder()).asDoubleBuffer();
+            datos.get(destino, 0, n * w);
+        } finally {
+            MatrizFueraHeap.liberar(region);
+        }
+        bytesLeidos += largo;
+    }
+    
+    /**
+     * Escribe las columnas [j0, j0 + w) mapeando solo esa región del archivo
+     */
+    private void escribir(FileChannel canal, int n, int j0, int w, double[] origen) throws IOException {
+        long largo = 8L * n * w;
+        MappedByteBuffer region = canal.map(FileChannel.MapMode.READ_WRITE, 8L * n * j0, largo);
+        try {
+            DoubleBuffer datos = region.order(ByteOrder.nativeOrder()).asDoubleBuffer();
+            datos.put(origen, 0, n * w);
+        } finally {
+            MatrizFueraHeap.liberar(region);
+        }
+        bytesEscritos += largo;
+    }
+    
+    public long getBytesLeidos() {
+        return bytesLeidos;
+    }
+    
+    public long getBytesEscritos() {
+        return bytesEscritos;
+    }
+    
+    /**
+     * Paneles factorizados en la última resolución
+     */
+    public int getPaneles() {
+        return paneles;
+    }
+    
+    public long getPresupuestoBytes() {
+        return presupuestoBytes;
+    }
+    
+    @Override
+    public long getTiempoEjecucion() {
+        return tiempoEjecucion;
+    }
+    
+    @Override
+    public double[] getSolucion() {
+        return solucion;
+    }
+    
+    @Override
+    public EstadoMetodo getEstado() {
+        return estado;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,188 @@
+package metodos;
+
+import circuitos.MatrizFueraHeap;
+
+/**
+ * Factorización LU por bloques sobre una matriz fuera del heap
+ * 
+ * Los factores quedan en la propia MatrizFueraHeap; en el heap solo vive
+ * un espacio de trabajo de O(n·nb): el panel de columnas que se factoriza,
+ * el bloque de filas U12 y una fila de paso. Cada fila de A22 se lee y se
+ * escribe una sola vez por panel, aplicando las nb actualizaciones juntas.
+ */
+public final class LUFueraHeap implements Factorizacion, AutoCloseable {
+    private final int n;
+    private final MatrizFueraHeap lu;
+    private final int[] pivotes;
+    
+    private LUFueraHeap(MatrizFueraHeap lu, int[] pivotes) {
+        this.n = lu.getDimension();
+        this.lu = lu;
+        this.pivotes = pivotes;
+    }
+    
+    /**
+     * Factoriza una copia fuera del heap; A no se modifica
+     */
+    public static LUFueraHeap factorizar(MatrizFueraHeap A, int tamanoBloque) {
+        MatrizFueraHeap copia = A.copiar();
+        try {
+            return factorizarEnSitio(copia, tamanoBloque);
+        } catch (RuntimeException e) {
+            copia.close();
+            throw e;
+        }
+    }
+    
+    /**
+     * Factoriza sobre A misma, sin copia: la factorización pasa a ser dueña de A
+     * @throws ArithmeticException si la matriz es singular
+     */
+    public static LUFueraHeap factorizarEnSitio(MatrizFueraHeap A, int tamanoBloque) {
+        int n = A.getDimension();
+        int nb = Math.max(1, Math.min(tamanoBloque, Math.max(1, n)));
+        int[] pivotes = new int[n];
+        double[] panel = new double[n * nb];
+        double[] u12 = new double[nb * n];
+        double[] fila = new double[n];
+        
+        for (int kb = 0; kb < n; kb += nb) {
+            int fin = Math.min(kb + nb, n);
+            int w = fin - kb;
+            
+            // 1. Panel: filas kb..n-1, columnas kb..fin-1, al heap
+            for (int i = kb; i < n; i++) {
+                A.leerFila(i, kb, panel, (i - kb) * w, w);
+            }
+            
+            for (int k = kb; k < fin; k++) {
+                int c = k - kb;
+                int p = k;
+                double max = Math.abs(panel[(k - kb) * w + c]);
+                for (int i = k + 1; i < n; i++) {
+                    double v = Math.abs(panel[(i - kb) * w + c]);
+                    if (v > max) {
+                        max = v;
+                        p = i;
+                    }
+                }
+                
+                if (max < 1e-10) {
+                    throw new ArithmeticException("Matriz singular o casi singular");
+                }
+                
+                pivotes[k] = p;
+                if (p != k) {
+                    // En el panel y, fuera de él, en el resto de la fila
+                    int rk = (k - kb) * w;
+                    int rp = (p - kb) * w;
+                    for (int j = 0; j < w; j++) {
+                        double temp = panel[rk + j];
+                        panel[rk + j] = panel[rp + j];
+                        panel[rp + j] = temp;
+                    }
+                    A.intercambiarFilas(k, p, 0, kb);
+                    A.intercambiarFilas(k, p, fin, n);
+                }
+                
+                int filaK = (k - kb) * w;
+                double pivote = panel[filaK + c];
+                for (int i = k + 1; i < n; i++) {
+                    int filaI = (i - kb) * w;
+                    double l = panel[filaI + c] / pivote;
+                    panel[filaI + c] = l;
+                    if (l == 0.0) continue;
+                    Nucleos.ACTIVO.axpy(-l, panel, filaK + c + 1, panel, filaI + c + 1, w - c - 1);
+                }
+            }
+            
+            for (int i = kb; i < n; i++) {
+                A.escribirFila(i, kb, panel, (i - kb) * w, w);
+            }
+            
+            if (fin == n) break;
+            int resto = n - fin;
+            
+            // 2. U12 = L11⁻¹ · A12
+            for (int k = kb; k < fin; k++) {
+                A.leerFila(k, fin, u12, (k - kb) * resto, resto);
+            }
+            for (int k = 0; k < w; k++) {
+                for (int i = k + 1; i < w; i++) {
+                    double l = panel[i * w + k];
+                    if (l == 0.0) continue;
+                    Nucleos.ACTIVO.axpy(-l, u12, k * resto, u12, i * resto, resto);
+                }
+            }
+            for (int k = kb; k < fin; k++) {
+                A.escribirFila(k, fin, u12, (k - kb) * resto, resto);
+            }
+            
+            // 3. A22 -= L21 · U12: cada fila entra y sale del heap una vez por panel
+            for (int i = fin; i < n; i++) {
+                int filaI = (i - kb) * w;
+                A.leerFila(i, fin, fila, 0, resto);
+                for (int k = 0; k < w; k++) {
+                    double l = panel[filaI + k];
+                    if (l == 0.0) continue;
+                    Nucleos.ACTIVO.axpy(-l, u12, k * resto, fila, 0, resto);
+                }
+                A.escribirFila(i, fin, fila, 0, resto);
+            }
+        }
+        
+        return new LUFueraHeap(A, pivotes);
+    }
+    
+    /**
+     * Resuelve A·x = b leyendo cada fila de L y U una vez (O(n²))
+     */
+    @Override
+    public double[] resolver(double[] b) {
+        double[] x = b.clone();
+        double[] fila = new double[n];
+        
+        for (int k = 0; k < n; k++) {
+            int p = pivotes[k];
+            if (p != k) {
+                double temp = x[k];
+                x[k] = x[p];
+                x[p] = temp;
+            }
+        }
+        
+        for (int i = 0; i < n; i++) {
+            lu.leerFila(i, 0, fila, 0, i);
+            x[i] -= Nucleos.ACTIVO.producto(fila, 0, x, 0, i);
+        }
+        
+        for (int i = n - 1; i >= 0; i--) {
+            lu.leerFila(i, i, fila, 0, n - i);
+            double sum = x[i] - Nucleos.ACTIVO.producto(fila, 1, x, i + 1, n - i - 1);
+            x[i] = sum / fila[0];
+        }
+        
+        return x;
+    }
+    
+    @Override
+    public int getDimension() {
+        return n;
+    }
+    
+    /**
+     * Bytes en el heap: solo los pivotes (los factores están fuera)
+     */
+    @Override
+    public long getBytes() {
+        return 4L * pivotes.length;
+    }
+    
+    /**
+     * Libera los factores fuera del heap
+     */
+    @Override
+    public void close() {
+        lu.close();
+    }
+}
\ No newline at end of file
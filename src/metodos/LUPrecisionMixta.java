@@ -0,0 +1,198 @@
+package metodos;
+
+import circuitos.Circuito;
+
+/**
+ * LU en precisión mixta con refinamiento iterativo
+ * Complejidad: O(n³) en float + O(n²) en double por iteración de refinamiento
+ * 
+ * La factorización, que es la parte cara, se hace en float: mueve la mitad
+ * de bytes y procesa el doble de elementos por instrucción SIMD. Luego se
+ * recupera la precisión de double refinando sobre el residuo:
+ *   r = b - A·x (en double), A·d = r (con los factores float), x += d
+ * Si el refinamiento no converge (matriz mal condicionada para float) se
+ * recurre a LU completa en double.
+ */
+public class LUPrecisionMixta implements MetodoResolucion {
+    public static final int ITERACIONES_MAX_POR_DEFECTO = 30;
+    
+    private Circuito circuito;
+    private double[] solucion;
+    private long tiempoEjecucion;
+    private EstadoMetodo estado;
+    private final int iteracionesMaximas;
+    private int iteraciones;
+    private double residuo;
+    private boolean usoRespaldo;
+    
+    public LUPrecisionMixta() {
+        this(ITERACIONES_MAX_POR_DEFECTO);
+    }
+    
+    /**
+     * @param iteracionesMaximas Refinamientos permitidos antes de recurrir a LU en double
+     */
+    public LUPrecisionMixta(int iteracionesMaximas) {
+        if (iteracionesMaximas < 0) {
+            throw new IllegalArgumentException("Las iteraciones máximas no pueden ser negativas");
+        }
+        this.iteracionesMaximas = iteracionesMaximas;
+        this.estado = EstadoMetodo.LISTO;
+    }
+    
+    @Override
+    public String getNombre() {
+        return "LU-Precisión-Mixta";
+    }
+    
+    @Override
+    public void setCircuito(Circuito circuito) {
+        this.circuito = circuito;
+        this.estado = EstadoMetodo.LISTO;
+    }
+    
+    @Override
+    public void run() {
+        if (circuito == null) {
+            System.err.println("[" + getNombre() + "] Error: Circuito no establecido");
+            estado = EstadoMetodo.ERROR;
+            return;
+        }
+        
+        System.out.println("[" + getNombre() + "] Iniciando resolución de: " + circuito.getNombre());
+        estado = EstadoMetodo.EJECUTANDO;
+        
+        long inicio = System.nanoTime();
+        try {
+            solucion = resolver(circuito);
+            tiempoEjecucion = (System.nanoTime() - inicio) / 1_000_000;
+            estado = EstadoMetodo.TERMINADO;
+            System.out.println("[" + getNombre() + "] Completado en " + tiempoEjecucion + " ms ("
+                + (usoRespaldo ? "respaldo LU double" : iteraciones + " refinamientos")
+                + ", residuo " + String.format("%.2e", residuo) + ")");
+        } catch (Exception e) {
+            estado = EstadoMetodo.ERROR;
+            System.err.println("[" + getNombre() + "] Error: " + e.getMessage());
+        }
+    }
+    
+    @Override
+    public double[] resolver(Circuito circuito) {
+        double[][] A = circuito.getCoeficientes();
+        double[] b = circuito.getTerminosIndep();
+        int n = A.length;
+        
+        FactorizacionLUSimple simple;
+        try {
+            simple = FactorizacionLUSimple.factorizar(A, FactorizacionLU.BLOQUE_POR_DEFECTO);
+        } catch (ArithmeticException e) {
+            return respaldo(A, b);
+        }
+        
+        // Criterio de dsgesv (LAPACK): ||r|| ≤ ||x||·||A||·eps·√n
+        double umbral = normaInfinito(A) * Math.ulp(1.0) * Math.sqrt(n);
+        double[] x = simple.resolver(b);
+        double[] r = new double[n];
+        
+        for (int it = 0; ; it++) {
+            double normaR = residuo(A, b, x, r);
+            if (normaR <= normaInfinito(x) * umbral) {
+                iteraciones = it;
+                residuo = normaR;
+                usoRespaldo = false;
+                return x;
+            }
+            if (it == iteracionesMaximas || Double.isNaN(normaR)) {
+                break;
+            }
+            
+            double[] d = simple.resolver(r);
+            for (int i = 0; i < n; i++) {
+                x[i] += d[i];
+            }
+        }
+        
+        return respaldo(A, b);
+    }
+    
+    /**
+     * LU completa en double cuando float no alcanza
+     */
+    private double[] respaldo(double[][] A, double[] b) {
+        double[] x = FactorizacionLU.factorizar(A).resolver(b);
+        iteraciones = 0;
+        residuo = residuo(A, b, x, new double[b.length]);
+        usoRespaldo = true;
+        return x;
+    }
+    
+    /**
+     * r = b - A·x en double
+     * @return ||r||∞
+     */
+    private static double residuo(double[][] A, double[] b, double[] x, double[] r) {
+        int n = b.length;
+        double max = 0;
+        for (int i = 0; i < n; i++) {
+            r[i] = b[i] - Nucleos.ACTIVO.producto(A[i], 0, x, 0, n);
+            max = Math.max(max, Math.abs(r[i]));
+        }
+        return max;
+    }
+    
+    private static double normaInfinito(double[] x) {
+        double max = 0;
+        for (double v : x) {
+            max = Math.max(max, Math.abs(v));
+        }
+        return max;
+    }
+    
+    private static double normaInfinito(double[][] A) {
+        double max = 0;
+        for (double[] fila : A) {
+            double suma = 0;
+            for (double v : fila) {
+                suma += Math.abs(v);
+            }
+            max = Math.max(max, suma);
+        }
+        return max;
+    }
+    
+    /**
+     * Refinamientos hechos en la última resolución (0 si recurrió al respaldo)
+     */
+    public int getIteraciones() {
+        return iteraciones;
+    }
+    
+    /**
+     * ||b - A·x||∞ de la última solución
+     */
+    public double getResiduo() {
+        return residuo;
+    }
+    
+    /**
+     * Indica si la última resolución recurrió a LU en double
+     */
+    public boolean isUsoRespaldo() {
+        return usoRespaldo;
+    }
+    
+    @Override
+    public long getTiempoEjecucion() {
+        return tiempoEjecucion;
+    }
+    
+    @Override
+    public double[] getSolucion() {
+        return solucion;
+    }
+    
+    @Override
+    public EstadoMetodo getEstado() {
+        return estado;
+    }
+}
\ No newline at end of file
@@ -5,17 +5,39 @@ import circuitos.Circuito;
 /**
  * Wrapper para usar librería numérica externa
  * Por ahora usa implementación propia (LU decomposition)
+ * Reanudable: revisa la interrupción entre paneles de la factorización densa
+ * (los circuitos dispersos, fuera del heap o banda se resuelven de una vez)
  */
-public class LibreriaNumerica implements MetodoResolucion {
+public class LibreriaNumerica implements Reanudable {
+    // Compartida por todas las instancias: 32 factorizaciones o 256 MB como máximo
+    private static final CacheFactorizaciones CACHE = new CacheFactorizaciones(32, 256L * 1024 * 1024);
+    
     private Circuito circuito;
     private double[] solucion;
     private long tiempoEjecucion;
     private EstadoMetodo estado;
+    private int tamanoBloque;
+    private PuntoControl punto;
     
     public LibreriaNumerica() {
+        this(FactorizacionLU.BLOQUE_POR_DEFECTO);
+    }
+    
+    /**
+     * @param tamanoBloque Columnas por panel en la factorización por bloques
+     */
+    public LibreriaNumerica(int tamanoBloque) {
+        if (tamanoBloque < 1) {
+            throw new IllegalArgumentException("El tamaño de bloque debe ser positivo");
+        }
+        this.tamanoBloque = tamanoBloque;
         this.estado = EstadoMetodo.LISTO;
     }
     
+    public int getTamanoBloque() {
+        return tamanoBloque;
+    }
+    
     @Override
     public String getNombre() {
         return "Librería-Numérica";
@@ -25,6 +47,7 @@ public class LibreriaNumerica implements MetodoResolucion {
     public void setCircuito(Circuito circuito) {
         this.circuito = circuito;
         this.estado = EstadoMetodo.LISTO;
+        this.punto = null;
     }
     
     @Override
@@ -35,95 +58,204 @@ public class LibreriaNumerica implements MetodoResolucion {
             return;
         }
         
-        System.out.println("[" + getNombre() + "] Iniciando resolución de: " + circuito.getNombre());
+        if (punto == null) {
+            System.out.println("[" + getNombre() + "] Iniciando resolución de: " + circuito.getNombre());
+        } else {
+            System.out.println("[" + getNombre() + "] Reanudando " + circuito.getNombre() + " en " + punto);
+        }
         estado = EstadoMetodo.EJECUTANDO;
         
+        long previo = punto != null ? punto.nanosAcumulados : 0;
         long inicio = System.nanoTime();
         try {
-            solucion = resolver(circuito);
-            tiempoEjecucion = (System.nanoTime() - inicio) / 1_000_000;
+            if (punto == null && (circuito.esDisperso() || circuito.esFueraHeap() && !circuito.esBandeado())) {
+                // Sin caché ni punto de control: ambos copiarían la matriz al heap
+                solucion = resolver(circuito);
+                tiempoEjecucion = (System.nanoTime() - inicio) / 1_000_000;
+                estado = EstadoMetodo.TERMINADO;
+                System.out.println("[" + getNombre() + "] Completado en " + tiempoEjecucion + " ms");
+                return;
+            }
+            
+            Factorizacion f = null;
+            CacheFactorizaciones.Huella huella = null;
+            if (punto == null) {
+                // Acierto de caché o sistema banda: no hace falta expropiar
+                if (!circuito.esFueraHeap()) {
+                    huella = CacheFactorizaciones.huella(circuito.getCoeficientes());
+                    f = CACHE.obtener(huella);
+                }
+                if (f == null && circuito.esBandeado()) {
+                    // Falló la caché: factorizar directo sin volver a consultarla
+                    f = factorizarBanda(circuito);
+                    if (huella != null) {
+                        CACHE.guardar(huella, f);
+                    }
+                }
+                if (f == null) {
+                    punto = nuevoPuntoControl(circuito);
+                }
+            }
+            
+            if (f == null) {
+                if (!avanzar(punto, tamanoBloque)) {
+                    punto.nanosAcumulados = previo + System.nanoTime() - inicio;
+                    estado = EstadoMetodo.SUSPENDIDO;
+                    System.out.println("[" + getNombre() + "] Suspendido en " + punto);
+                    return;
+                }
+                f = new FactorizacionLU(punto.pasosTotales, punto.matriz, punto.enteros, (int) punto.escalar);
+                // Al reanudar desde un punto de control la huella no se calculó en este run()
+                CACHE.guardar(huella != null ? huella : CacheFactorizaciones.huella(circuito.getCoeficientes()), f);
+                punto = null;
+            }
+            
+            solucion = f.resolver(circuito.getTerminosIndep());
+            tiempoEjecucion = (previo + System.nanoTime() - inicio) / 1_000_000;
             estado = EstadoMetodo.TERMINADO;
             System.out.println("[" + getNombre() + "] Completado en " + tiempoEjecucion + " ms");
         } catch (Exception e) {
+            punto = null;
             estado = EstadoMetodo.ERROR;
             System.err.println("[" + getNombre() + "] Error: " + e.getMessage());
         }
     }
     
-    @Override
-    public double[] resolver(Circuito circuito) {
-        return resolverConLU(circuito);
-    }
-    
     /**
-     * Resuelve usando descomposición LU (Lower-Upper)
-     * Más eficiente que Gauss-Jordan: O(n³) pero con mejor constante
+     * Copia de los coeficientes sobre la que avanza la factorización; el paso es la próxima columna
      */
-    private double[] resolverConLU(Circuito circuito) {
+    private PuntoControl nuevoPuntoControl(Circuito circuito) {
         int n = circuito.getNumMallas();
-        double[][] A = copiarMatriz(circuito.getCoeficientes());
-        double[] b = circuito.getTerminosIndep().clone();
-        
-        // Descomposición LU: A = L * U
-        double[][] L = new double[n][n];
-        double[][] U = new double[n][n];
-        
-        // Inicializar L como identidad
+        double[] a = new double[n * n];
+        double[][] A = circuito.getCoeficientes();
         for (int i = 0; i < n; i++) {
-            L[i][i] = 1.0;
+            System.arraycopy(A[i], 0, a, i * n, n);
         }
-        
-        // Calcular L y U
-        for (int i = 0; i < n; i++) {
-            // Calcular U
-            for (int k = i; k < n; k++) {
-                double sum = 0;
-                for (int j = 0; j < i; j++) {
-                    sum += L[i][j] * U[j][k];
-                }
-                U[i][k] = A[i][k] - sum;
-            }
-            
-            // Calcular L
-            for (int k = i + 1; k < n; k++) {
-                double sum = 0;
-                for (int j = 0; j < i; j++) {
-                    sum += L[k][j] * U[j][i];
-                }
-                L[k][i] = (A[k][i] - sum) / U[i][i];
+        PuntoControl p = new PuntoControl(getNombre(), circuito, n, a, null, new int[n]);
+        p.escalar = 1;
+        return p;
+    }
+    
+    /**
+     * Factoriza panel por panel hasta terminar o hasta que se pida la interrupción
+     * @return true si la factorización quedó completa
+     */
+    private static boolean avanzar(PuntoControl p, int tamanoBloque) {
+        int n = p.pasosTotales;
+        while (p.paso < n) {
+            if (Thread.currentThread().isInterrupted()) {
+                return false;
             }
+            p.escalar *= FactorizacionLU.factorizarBloque(p.matriz, n, p.enteros, p.paso, tamanoBloque);
+            p.paso = Math.min(p.paso + tamanoBloque, n);
         }
-        
-        // Resolver L*y = b (sustitución hacia adelante)
-        double[] y = new double[n];
-        for (int i = 0; i < n; i++) {
-            double sum = 0;
-            for (int j = 0; j < i; j++) {
-                sum += L[i][j] * y[j];
+        return true;
+    }
+    
+    /**
+     * Solo la LU densa en el heap avanza por paneles con punto de control; los
+     * circuitos dispersos, fuera del heap o banda se resuelven de una vez
+     */
+    @Override
+    public boolean admiteSuspension() {
+        return circuito == null || punto != null
+            || !(circuito.esDisperso() || circuito.esFueraHeap() || circuito.esBandeado());
+    }
+    
+    @Override
+    public PuntoControl extraerPuntoControl() {
+        PuntoControl p = punto;
+        punto = null;
+        return p;
+    }
+    
+    @Override
+    public void restaurarPuntoControl(PuntoControl punto) {
+        if (punto != null) {
+            punto.verificar(getNombre(), circuito);
+        }
+        this.punto = punto;
+    }
+    
+    @Override
+    public double[] resolver(Circuito circuito) {
+        if (circuito.esDisperso()) {
+            return FactorizacionLUDispersa.factorizar(circuito.getCoeficientesDispersos())
+                .resolver(circuito.getTerminosIndep());
+        }
+        if (circuito.esFueraHeap() && !circuito.esBandeado()) {
+            try (LUFueraHeap lu = factorizarFueraHeap(circuito)) {
+                return lu.resolver(circuito.getTerminosIndep());
             }
-            y[i] = b[i] - sum;
         }
-        
-        // Resolver U*x = y (sustitución hacia atrás)
-        double[] x = new double[n];
-        for (int i = n - 1; i >= 0; i--) {
-            double sum = 0;
-            for (int j = i + 1; j < n; j++) {
-                sum += U[i][j] * x[j];
+        return obtenerFactorizacion(circuito).resolver(circuito.getTerminosIndep());
+    }
+    
+    /**
+     * Una sola factorización (o un acierto de caché) más k pares de sustituciones
+     */
+    @Override
+    public double[][] resolverMultiple(Circuito circuito, double[][] B) {
+        MetodoResolucion.validarTerminos(B, circuito.getNumMallas());
+        if (circuito.esDisperso()) {
+            return FactorizacionLUDispersa.factorizar(circuito.getCoeficientesDispersos()).resolverMultiple(B);
+        }
+        if (circuito.esFueraHeap() && !circuito.esBandeado()) {
+            try (LUFueraHeap lu = factorizarFueraHeap(circuito)) {
+                return lu.resolverMultiple(B);
             }
-            x[i] = (y[i] - sum) / U[i][i];
         }
-        
-        return x;
+        return obtenerFactorizacion(circuito).resolverMultiple(B);
     }
     
-    private double[][] copiarMatriz(double[][] original) {
-        int n = original.length;
-        double[][] copia = new double[n][n];
-        for (int i = 0; i < n; i++) {
-            copia[i] = original[i].clone();
+    /**
+     * Busca la factorización en la caché; si no está, la calcula y la guarda.
+     * Con acierto solo se paga la huella O(n²) y las sustituciones.
+     */
+    private Factorizacion obtenerFactorizacion(Circuito circuito) {
+        if (circuito.esFueraHeap()) {
+            // La huella leería la matriz al heap; la banda compacta sí entra
+            return factorizarBanda(circuito);
         }
-        return copia;
+        CacheFactorizaciones.Huella huella = CacheFactorizaciones.huella(circuito.getCoeficientes());
+        Factorizacion f = CACHE.obtener(huella);
+        if (f == null) {
+            f = circuito.esBandeado() ? factorizarBanda(circuito) : factorizarLU(circuito);
+            CACHE.guardar(huella, f);
+        }
+        return f;
+    }
+    
+    /**
+     * Factoriza sistemas banda sin pasar por la matriz densa: O(n·b²)
+     */
+    private Factorizacion factorizarBanda(Circuito circuito) {
+        MatrizBanda banda = MatrizBanda.desde(circuito);
+        banda.factorizar();
+        return banda;
+    }
+    
+    /**
+     * Descomposición LU (Lower-Upper) por bloques, en sitio y con pivoteo parcial
+     * Más eficiente que Gauss-Jordan: O(n³) pero con mejor constante
+     */
+    private Factorizacion factorizarLU(Circuito circuito) {
+        return FactorizacionLU.factorizar(circuito.getCoeficientes(), tamanoBloque);
+    }
+    
+    /**
+     * LU sobre una copia fuera del heap: ni la matriz ni los factores pasan por el GC.
+     * No se guarda en la caché porque retendría memoria nativa.
+     */
+    private LUFueraHeap factorizarFueraHeap(Circuito circuito) {
+        return LUFueraHeap.factorizar(circuito.getCoeficientesFueraHeap(), tamanoBloque);
+    }
+    
+    /**
+     * Caché de factorizaciones compartida, con sus contadores de aciertos, fallos y desalojos
+     */
+    public static CacheFactorizaciones getCache() {
+        return CACHE;
     }
     
     @Override
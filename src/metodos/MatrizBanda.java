@@ -0,0 +1,165 @@
+package metodos;
+
+import circuitos.Circuito;
+
+/**
+ * Matriz banda con almacenamiento compacto y factorización LU en sitio
+ *
+ * Cada fila i guarda las columnas [i - kl, i + ku + kl] en un arreglo plano
+ * de ancho 2·kl + ku + 1. Las kl columnas extra a la derecha alojan el
+ * relleno que produce el pivoteo parcial (igual que dgbtrf de LAPACK).
+ * Memoria: O(n·b), factorización: O(n·kl·(kl + ku)).
+ */
+public class MatrizBanda implements Factorizacion {
+    private final int n;
+    private final int kl;
+    private final int ku;
+    private final int ancho;
+    private final double[] datos;
+    private int[] pivotes;
+    
+    public MatrizBanda(int n, int kl, int ku) {
+        this.n = n;
+        this.kl = kl;
+        this.ku = ku;
+        this.ancho = 2 * kl + ku + 1;
+        this.datos = new double[n * ancho];
+    }
+    
+    /**
+     * Copia la banda de los coeficientes del circuito detectando su ancho
+     */
+    public static MatrizBanda desde(Circuito circuito) {
+        int n = circuito.getNumMallas();
+        int kl = circuito.getAnchoBandaInferior();
+        int ku = circuito.getAnchoBandaSuperior();
+        
+        MatrizBanda banda = new MatrizBanda(n, kl, ku);
+        for (int i = 0; i < n; i++) {
+            int desde = Math.max(0, i - kl);
+            int hasta = Math.min(n - 1, i + ku);
+            for (int j = desde; j <= hasta; j++) {
+                banda.set(i, j, circuito.getCoeficiente(i, j));
+            }
+        }
+        return banda;
+    }
+    
+    private int indice(int i, int j) {
+        return i * ancho + (j - i + kl);
+    }
+    
+    public double get(int i, int j) {
+        if (j < i - kl || j > i + ku + kl) return 0.0;
+        return datos[indice(i, j)];
+    }
+    
+    public void set(int i, int j, double valor) {
+        if (j < i - kl || j > i + ku) {
+            throw new IllegalArgumentException("Posición (" + i + ", " + j + ") fuera de la banda");
+        }
+        datos[indice(i, j)] = valor;
+    }
+    
+    /**
+     * Factoriza P·A = L·U en sitio con pivoteo parcial
+     * @throws ArithmeticException si la matriz es singular
+     */
+    public void factorizar() {
+        pivotes = new int[n];
+        
+        for (int k = 0; k < n; k++) {
+            int ultimaFila = Math.min(n - 1, k + kl);
+            int ultimaCol = Math.min(n - 1, k + ku + kl);
+            
+            // Pivote: solo las kl filas bajo la diagonal pueden tener valor en la columna k
+            int p = k;
+            double max = Math.abs(datos[indice(k, k)]);
+            for (int i = k + 1; i <= ultimaFila; i++) {
+                double v = Math.abs(datos[indice(i, k)]);
+                if (v > max) {
+                    max = v;
+                    p = i;
+                }
+            }
+            
+            if (max < 1e-10) {
+                throw new ArithmeticException("Matriz singular o casi singular");
+            }
+            
+            pivotes[k] = p;
+            if (p != k) {
+                for (int j = k; j <= ultimaCol; j++) {
+                    int a = indice(k, j);
+                    int b = indice(p, j);
+                    double temp = datos[a];
+                    datos[a] = datos[b];
+                    datos[b] = temp;
+                }
+            }
+            
+            int baseK = indice(k, k);
+            double pivote = datos[baseK];
+            for (int i = k + 1; i <= ultimaFila; i++) {
+                int baseI = indice(i, k);
+                double l = datos[baseI] / pivote;
+                datos[baseI] = l;
+                if (l == 0.0) continue;
+                // Las columnas k..ultimaCol de las filas k e i son contiguas en sus filas
+                for (int d = 1; d <= ultimaCol - k; d++) {
+                    datos[baseI + d] -= l * datos[baseK + d];
+                }
+            }
+        }
+    }
+    
+    /**
+     * Resuelve A·x = b con la matriz ya factorizada (O(n·b))
+     */
+    @Override
+    public double[] resolver(double[] b) {
+        if (pivotes == null) {
+            throw new IllegalStateException("La matriz banda no está factorizada");
+        }
+        double[] x = b.clone();
+        
+        // Hacia adelante: intercambios y multiplicadores en el orden en que se generaron
+        for (int k = 0; k < n; k++) {
+            int p = pivotes[k];
+            if (p != k) {
+                double temp = x[k];
+                x[k] = x[p];
+                x[p] = temp;
+            }
+            double xk = x[k];
+            if (xk == 0.0) continue;
+            int ultimaFila = Math.min(n - 1, k + kl);
+            for (int i = k + 1; i <= ultimaFila; i++) {
+                x[i] -= datos[indice(i, k)] * xk;
+            }
+        }
+        
+        // Hacia atrás con U, de ancho ku + kl
+        for (int i = n - 1; i >= 0; i--) {
+            int base = indice(i, i);
+            int ultimaCol = Math.min(n - 1, i + ku + kl);
+            double sum = x[i];
+            for (int j = i + 1; j <= ultimaCol; j++) {
+                sum -= datos[base + (j - i)] * x[j];
+            }
+            x[i] = sum / datos[base];
+        }
+        
+        return x;
+    }
+    
+    @Override
+    public long getBytes() {
+        return 8L * datos.length + (pivotes != null ? 4L * pivotes.length : 0);
+    }
+    
+    @Override
+    public int getDimension() { return n; }
+    public int getAnchoInferior() { return kl; }
+    public int getAnchoSuperior() { return ku; }
+}
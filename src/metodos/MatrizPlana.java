@@ -0,0 +1,47 @@
+package metodos;
+
+/**
+ * Matriz cuadrada densa en un único arreglo contiguo, en orden por filas
+ * El elemento (i, j) está en datos[i * n + j]: sin indirecciones por fila
+ * y con recorridos secuenciales en memoria.
+ */
+public final class MatrizPlana {
+    private final int n;
+    private final double[] datos;
+    
+    public MatrizPlana(int n) {
+        this.n = n;
+        this.datos = new double[n * n];
+    }
+    
+    /**
+     * Copia una matriz dentada (double[][]) al formato plano
+     */
+    public static MatrizPlana desde(double[][] A) {
+        int n = A.length;
+        MatrizPlana m = new MatrizPlana(n);
+        for (int i = 0; i < n; i++) {
+            System.arraycopy(A[i], 0, m.datos, i * n, n);
+        }
+        return m;
+    }
+    
+    public double get(int i, int j) {
+        return datos[i * n + j];
+    }
+    
+    public void set(int i, int j, double valor) {
+        datos[i * n + j] = valor;
+    }
+    
+    public int getDimension() {
+        return n;
+    }
+    
+    /**
+     * Arreglo subyacente (se comparte, no se copia)
+     */
+    public double[] getDatos() {
+        return datos;
+    }
+}
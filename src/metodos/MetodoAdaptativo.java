@@ -0,0 +1,283 @@
+package metodos;
+
+import circuitos.Circuito;
+import circuitos.MatrizCSR;
+import java.util.function.Supplier;
+
+/**
+ * Meta-método que elige el motor más rápido para cada circuito
+ * 
+ * Perfila la matriz (tamaño, ancho de banda, simetría, densidad), consulta
+ * el modelo de costo compartido y delega en el candidato de menor tiempo
+ * estimado. El tiempo real de cada resolución recalibra el modelo, de modo
+ * que las próximas decisiones se ajustan a la máquina.
+ */
+public class MetodoAdaptativo implements MetodoResolucion {
+    // Compartido por todas las instancias: cada resolución mejora la calibración
+    private static final ModeloCosto MODELO = new ModeloCosto();
+    
+    private Circuito circuito;
+    private double[] solucion;
+    private long tiempoEjecucion;
+    private EstadoMetodo estado;
+    private Candidato elegido;
+    private String detalle;
+    
+    /**
+     * Motores entre los que se elige, con su nombre y su ns/flop inicial
+     */
+    public enum Candidato {
+        GAUSS_JORDAN(GaussJordan::new, "Gauss-Jordan", 1.0),
+        CRAMER(Cramer::new, "Cramer", 1.0),
+        LU(LibreriaNumerica::new, "Librería-Numérica", 0.6),
+        LU_BANDA(LUBanda::new, "LU-Banda", 1.0),
+        CHOLESKY(Cholesky::new, "Cholesky", 0.8),
+        GRADIENTE_CONJUGADO(GradienteConjugado::new, "Gradiente-Conjugado", 1.5),
+        LU_PRECISION_MIXTA(LUPrecisionMixta::new, "LU-Precisión-Mixta", 0.5),
+        LU_DISPERSA(LUDispersa::new, "LU-Dispersa", 3.0);
+        
+        private final Supplier<MetodoResolucion> fabrica;
+        private final String nombre;
+        final double nsPorFlopInicial;
+        
+        Candidato(Supplier<MetodoResolucion> fabrica, String nombre, double nsPorFlopInicial) {
+            this.fabrica = fabrica;
+            this.nombre = nombre;
+            this.nsPorFlopInicial = nsPorFlopInicial;
+        }
+        
+        public MetodoResolucion crear() {
+            return fabrica.get();
+        }
+        
+        /**
+         * Igual al getNombre() del método que crea, sin instanciarlo
+         */
+        public String getNombre() {
+            return nombre;
+        }
+    }
+    
+    /**
+     * Características del circuito que determinan el costo de cada método
+     */
+    public static final class Perfil {
+        private final int numMallas;
+        private final int anchoInferior;
+        private final int anchoSuperior;
+        private final boolean bandeado;
+        private final boolean simetrica;
+        private final long noNulos;
+        private final boolean fueraHeap;
+        private final boolean disperso;
+        
+        private Perfil(Circuito circuito) {
+            this.numMallas = circuito.getNumMallas();
+            this.anchoInferior = circuito.getAnchoBandaInferior();
+            this.anchoSuperior = circuito.getAnchoBandaSuperior();
+            this.bandeado = circuito.esBandeado();
+            this.fueraHeap = circuito.esFueraHeap();
+            this.disperso = circuito.esDisperso();
+            if (disperso) {
+                MatrizCSR A = circuito.getCoeficientesDispersos();
+                this.simetrica = A.tieneDiagonalPositiva() && A.esSimetrica();
+                this.noNulos = A.getNoNulos();
+                return;
+            }
+            // Fuera del heap no se evalúa la simetría: Cholesky y PCG copiarían la matriz al heap
+            this.simetrica = !fueraHeap && FactorizacionCholesky.esCandidata(circuito.getCoeficientes());
+            long nnz = 0;
+            for (int i = 0; i < numMallas; i++) {
+                for (int j = 0; j < numMallas; j++) {
+                    if (circuito.getCoeficiente(i, j) != 0.0) nnz++;
+                }
+            }
+            this.noNulos = nnz;
+        }
+        
+        /**
+         * Perfila el circuito en O(n²), u O(nnz) si es disperso
+         */
+        public static Perfil de(Circuito circuito) {
+            return new Perfil(circuito);
+        }
+        
+        public int getNumMallas() { return numMallas; }
+        public int getAnchoInferior() { return anchoInferior; }
+        public int getAnchoSuperior() { return anchoSuperior; }
+        public boolean isBandeado() { return bandeado; }
+        public boolean isSimetrica() { return simetrica; }
+        public long getNoNulos() { return noNulos; }
+        public boolean isFueraHeap() { return fueraHeap; }
+        public boolean isDisperso() { return disperso; }
+        
+        /**
+         * Fracción de coeficientes no nulos
+         */
+        public double getDensidad() {
+            return numMallas == 0 ? 0 : (double) noNulos / ((double) numMallas * numMallas);
+        }
+        
+        @Override
+        public String toString() {
+            return String.format("n=%d, banda=%d/%d, %s, %.1f%% no nulos", numMallas, anchoInferior,
+                anchoSuperior, simetrica ? "simétrica" : "no simétrica", 100 * getDensidad());
+        }
+    }
+    
+    public MetodoAdaptativo() {
+        this.estado = EstadoMetodo.LISTO;
+    }
+    
+    @Override
+    public String getNombre() {
+        return "Adaptativo";
+    }
+    
+    @Override
+    public void setCircuito(Circuito circuito) {
+        this.circuito = circuito;
+        this.estado = EstadoMetodo.LISTO;
+    }
+    
+    @Override
+    public void run() {
+        if (circuito == null) {
+            System.err.println("[" + getNombre() + "] Error: Circuito no establecido");
+            estado = EstadoMetodo.ERROR;
+            return;
+        }
+        
+        System.out.println("[" + getNombre() + "] Iniciando resolución de: " + circuito.getNombre());
+        estado = EstadoMetodo.EJECUTANDO;
+        
+        long inicio = System.nanoTime();
+        try {
+            solucion = resolver(circuito);
+            tiempoEjecucion = (System.nanoTime() - inicio) / 1_000_000;
+            estado = EstadoMetodo.TERMINADO;
+            System.out.println("[" + getNombre() + "] Completado en " + tiempoEjecucion + " ms → " + detalle);
+        } catch (Exception e) {
+            estado = EstadoMetodo.ERROR;
+            System.err.println("[" + getNombre() + "] Error: " + e.getMessage());
+        }
+    }
+    
+    @Override
+    public double[] resolver(Circuito circuito) {
+        Perfil perfil = Perfil.de(circuito);
+        Candidato mejor = null;
+        Candidato segundo = null;
+        for (Candidato c : Candidato.values()) {
+            double costo = MODELO.estimar(c, perfil);
+            if (Double.isInfinite(costo)) continue;
+            if (mejor == null || costo < MODELO.estimar(mejor, perfil)) {
+                segundo = mejor;
+                mejor = c;
+            } else if (segundo == null || costo < MODELO.estimar(segundo, perfil)) {
+                segundo = c;
+            }
+        }
+        
+        String motivo = String.format("%s (estimado %.2f ms", mejor.getNombre(), MODELO.estimar(mejor, perfil) / 1e6);
+        if (segundo != null) {
+            motivo += String.format(", %s %.2f ms", segundo.getNombre(), MODELO.estimar(segundo, perfil) / 1e6);
+        }
+        motivo += "; " + perfil + ")";
+        
+        try {
+            double[] x = delegar(mejor, perfil, circuito);
+            elegido = mejor;
+            detalle = motivo;
+            return x;
+        } catch (ArithmeticException e) {
+            if (mejor == Candidato.LU) throw e;
+            // Un iterativo que no converge o una factorización especial que falla: LU general
+            double[] x = delegar(Candidato.LU, perfil, circuito);
+            elegido = Candidato.LU;
+            detalle = motivo + " falló (" + e.getMessage() + "), resuelto con " + Candidato.LU.getNombre();
+            return x;
+        }
+    }
+    
+    /**
+     * Resuelve con el candidato y registra el tiempo medido en el modelo
+     */
+    private static double[] delegar(Candidato candidato, Perfil perfil, Circuito circuito) {
+        MetodoResolucion metodo = candidato.crear();
+        CacheFactorizaciones cache = LibreriaNumerica.getCache();
+        long aciertos = cache.getAciertos();
+        
+        long inicio = System.nanoTime();
+        double[] x = metodo.resolver(circuito);
+        long nanos = System.nanoTime() - inicio;
+        
+        // Un acierto de caché no refleja el costo de factorizar: no se usa para calibrar
+        if (candidato != Candidato.LU || cache.getAciertos() == aciertos) {
+            MODELO.registrar(candidato, perfil, nanos);
+        }
+        if (metodo instanceof GradienteConjugado) {
+            MODELO.registrarIteraciones(perfil.getNumMallas(), ((GradienteConjugado) metodo).getIteraciones());
+        }
+        return x;
+    }
+    
+    /**
+     * Resuelve el circuito con cada candidato aplicable para calibrar el modelo
+     * No se llama sola: Main --calibrar la usa con muestras de cada tipo
+     */
+    public static void calibrar(Circuito muestra) {
+        Perfil perfil = Perfil.de(muestra);
+        for (Candidato c : Candidato.values()) {
+            if (Double.isInfinite(MODELO.estimar(c, perfil))) continue;
+            try {
+                delegar(c, perfil, muestra);
+            } catch (ArithmeticException e) {
+                // El candidato no sirve para esta muestra; su coeficiente queda igual
+            }
+        }
+    }
+    
+    /**
+     * Tiempo estimado en milisegundos con el mejor candidato para el circuito
+     */
+    public long estimarTiempo(Circuito circuito) {
+        Perfil perfil = Perfil.de(circuito);
+        double mejor = Double.POSITIVE_INFINITY;
+        for (Candidato c : Candidato.values()) {
+            mejor = Math.min(mejor, MODELO.estimar(c, perfil));
+        }
+        return (long) (mejor / 1e6);
+    }
+    
+    public static ModeloCosto getModelo() {
+        return MODELO;
+    }
+    
+    /**
+     * Candidato usado en la última resolución
+     */
+    public Candidato getElegido() {
+        return elegido;
+    }
+    
+    @Override
+    public String getDetalle() {
+        return detalle;
+    }
+    
+    @Override
+    public long getTiempoEjecucion() {
+        return tiempoEjecucion;
+    }
+    
+    @Override
+    public double[] getSolucion() {
+        return solucion;
+    }
+    
+    @Override
+    public EstadoMetodo getEstado() {
+        return estado;
+    }
+}
\ No newline at end of file
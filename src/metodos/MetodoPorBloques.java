@@ -0,0 +1,361 @@
+package metodos;
+
+import circuitos.Circuito;
+import circuitos.MatrizCSR;
+import circuitos.MatrizFueraHeap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Supplier;
+
+/**
+ * Descomposición del circuito en subcircuitos eléctricamente independientes
+ *
+ * Antes de resolver busca las componentes conexas del grafo de coeficientes
+ * (dos mallas están unidas si A[i][j] ≠ 0 o A[j][i] ≠ 0). Con la numeración
+ * por componentes la matriz es diagonal por bloques, así que cada bloque se
+ * resuelve por separado con una instancia nueva del método elegido y en
+ * paralelo en un ForkJoinPool; las soluciones parciales se vuelven a
+ * ubicar en las posiciones originales.
+ * Complejidad: O(Σnᵢ³) en lugar de O((Σnᵢ)³), repartido entre los núcleos.
+ */
+public class MetodoPorBloques implements MetodoResolucion {
+    private Circuito circuito;
+    private double[] solucion;
+    private long tiempoEjecucion;
+    private EstadoMetodo estado;
+    private final Supplier<MetodoResolucion> fabrica;
+    private final ForkJoinPool pool;
+    private int cantidadBloques;
+    private int mayorBloque;
+    private int aislados;
+    private double fraccionCosto;
+    
+    public MetodoPorBloques() {
+        this(LibreriaNumerica::new, ForkJoinPool.commonPool());
+    }
+    
+    /**
+     * @param fabrica Crea una instancia del método por cada bloque (los métodos
+     *                guardan estado, así que no se comparten entre hilos)
+     * @param pool Pool donde se resuelven los bloques
+     */
+    public MetodoPorBloques(Supplier<MetodoResolucion> fabrica, ForkJoinPool pool) {
+        this.fabrica = fabrica;
+        this.pool = pool;
+        this.estado = EstadoMetodo.LISTO;
+    }
+    
+    @Override
+    public String getNombre() {
+        return "Por-Bloques";
+    }
+    
+    @Override
+    public void setCircuito(Circuito circuito) {
+        this.circuito = circuito;
+        this.estado = EstadoMetodo.LISTO;
+    }
+    
+    @Override
+    public void run() {
+        if (circuito == null) {
+            System.err.println("[" + getNombre() + "] Error: Circuito no establecido");
+            estado = EstadoMetodo.ERROR;
+            return;
+        }
+        
+        System.out.println("[" + getNombre() + "] Iniciando resolución de: " + circuito.getNombre());
+        estado = EstadoMetodo.EJECUTANDO;
+        
+        long inicio = System.nanoTime();
+        try {
+            solucion = resolver(circuito);
+            tiempoEjecucion = (System.nanoTime() - inicio) / 1_000_000;
+            estado = EstadoMetodo.TERMINADO;
+            System.out.println("[" + getNombre() + "] Completado en " + tiempoEjecucion + " ms → " + getDetalle());
+        } catch (Exception e) {
+            estado = EstadoMetodo.ERROR;
+            System.err.println("[" + getNombre() + "] Error: " + e.getMessage());
+        }
+    }
+    
+    @Override
+    public double[] resolver(Circuito circuito) {
+        int n = circuito.getNumMallas();
+        double[][] B = new double[n][];
+        double[] b = circuito.getTerminosIndep();
+        for (int i = 0; i < n; i++) {
+            B[i] = new double[] { b[i] };
+        }
+        double[][] X = resolverMultiple(circuito, B);
+        double[] x = new double[n];
+        for (int i = 0; i < n; i++) {
+            x[i] = X[i][0];
+        }
+        return x;
+    }
+    
+    /**
+     * Cada bloque resuelve sus filas de B de una vez con resolverMultiple
+     */
+    @Override
+    public double[][] resolverMultiple(Circuito circuito, double[][] B) {
+        int n = circuito.getNumMallas();
+        MetodoResolucion.validarTerminos(B, n);
+        MatrizCSR A = circuito.getCoeficientesDispersos();
+        int[][] bloques = componentes(A);
+        registrar(bloques, n);
+        
+        // Un único bloque: nada que separar
+        if (bloques.length == 1) {
+            return resolverUnico(fabrica.get(), circuito, B);
+        }
+        
+        int[] local = new int[n];
+        double[][] X = new double[n][];
+        List<Bloque> tareas = new ArrayList<>();
+        for (int[] nodos : bloques) {
+            for (int r = 0; r < nodos.length; r++) {
+                local[nodos[r]] = r;
+            }
+            if (nodos.length == 1) {
+                // Malla aislada: una división, sin crear un método
+                int i = nodos[0];
+                double a = A.get(i, i);
+                if (Math.abs(a) < 1e-10) {
+                    throw new ArithmeticException("Matriz singular o casi singular");
+                }
+                X[i] = B[i].clone();
+                for (int c = 0; c < X[i].length; c++) {
+                    X[i][c] /= a;
+                }
+            } else {
+                tareas.add(new Bloque(fabrica, circuito, A, nodos, local, B, X));
+            }
+        }
+        
+        pool.invoke(new RecursiveAction() {
+            @Override
+            protected void compute() {
+                invokeAll(tareas);
+            }
+        });
+        return X;
+    }
+    
+    private static double[][] resolverUnico(MetodoResolucion metodo, Circuito circuito, double[][] B) {
+        if (B[0].length == 1) {
+            double[] x = metodo.resolver(circuito.conTerminosIndep(columna(B)));
+            double[][] X = new double[x.length][];
+            for (int i = 0; i < x.length; i++) {
+                X[i] = new double[] { x[i] };
+            }
+            return X;
+        }
+        return metodo.resolverMultiple(circuito, B);
+    }
+    
+    private static double[] columna(double[][] B) {
+        double[] b = new double[B.length];
+        for (int i = 0; i < B.length; i++) {
+            b[i] = B[i][0];
+        }
+        return b;
+    }
+    
+    private void registrar(int[][] bloques, int n) {
+        cantidadBloques = bloques.length;
+        mayorBloque = bloques.length > 0 ? bloques[0].length : 0;
+        aislados = 0;
+        double costo = 0;
+        for (int[] nodos : bloques) {
+            if (nodos.length == 1) aislados++;
+            costo += Math.pow(nodos.length, 3);
+        }
+        fraccionCosto = n > 0 ? costo / Math.pow(n, 3) : 1.0;
+    }
+    
+    /**
+     * Componentes conexas del grafo de A + Aᵀ por unión-búsqueda, en O(nnz)
+     * @return Mallas de cada componente en orden creciente, de la mayor a la menor
+     */
+    public static int[][] componentes(MatrizCSR A) {
+        int n = A.getDimension();
+        int[] filas = A.getFilas();
+        int[] columnas = A.getColumnas();
+        int[] padre = new int[n];
+        for (int i = 0; i < n; i++) {
+            padre[i] = i;
+        }
+        for (int i = 0; i < n; i++) {
+            for (int p = filas[i]; p < filas[i + 1]; p++) {
+                int ri = raiz(padre, i);
+                int rj = raiz(padre, columnas[p]);
+                if (ri != rj) {
+                    // La raíz es siempre el menor índice: el orden de las componentes es estable
+                    padre[Math.max(ri, rj)] = Math.min(ri, rj);
+                }
+            }
+        }
+        
+        // Numerar las componentes y repartir las mallas conservando el orden creciente
+        int[] componente = new int[n];
+        int[] tamanos = new int[n];
+        int cantidad = 0;
+        for (int i = 0; i < n; i++) {
+            int r = raiz(padre, i);
+            componente[i] = r == i ? cantidad++ : componente[r];
+            tamanos[componente[i]]++;
+        }
+        int[][] bloques = new int[cantidad][];
+        for (int c = 0; c < cantidad; c++) {
+            bloques[c] = new int[tamanos[c]];
+        }
+        int[] llenos = new int[cantidad];
+        for (int i = 0; i < n; i++) {
+            int c = componente[i];
+            bloques[c][llenos[c]++] = i;
+        }
+        
+        // Las más grandes primero: son las que más tardan y conviene lanzarlas antes
+        Arrays.sort(bloques, (x, y) -> Integer.compare(y.length, x.length));
+        return bloques;
+    }
+    
+    private static int raiz(int[] padre, int i) {
+        while (padre[i] != i) {
+            padre[i] = padre[padre[i]];
+            i = padre[i];
+        }
+        return i;
+    }
+    
+    /**
+     * Subcircuito de las mallas nodos[], con el mismo tipo de almacenamiento que el original
+     */
+    static Circuito extraer(Circuito circuito, MatrizCSR A, int[] nodos, int[] local, String nombre) {
+        int m = nodos.length;
+        int[] filas = A.getFilas();
+        int[] columnas = A.getColumnas();
+        double[] valores = A.getValores();
+        Circuito sub;
+        
+        if (circuito.esDisperso()) {
+            MatrizCSR.Ensamblador ensamblador = new MatrizCSR.Ensamblador(m);
+            for (int r = 0; r < m; r++) {
+                int i = nodos[r];
+                for (int p = filas[i]; p < filas[i + 1]; p++) {
+                    ensamblador.agregar(r, local[columnas[p]], valores[p]);
+                }
+            }
+            sub = new Circuito(ensamblador.construir(), circuito.getComplejidad(), nombre);
+        } else if (circuito.esFueraHeap()) {
+            MatrizFueraHeap destino = MatrizFueraHeap.asignar(m);
+            double[] fila = new double[m];
+            for (int r = 0; r < m; r++) {
+                int i = nodos[r];
+                Arrays.fill(fila, 0.0);
+                for (int p = filas[i]; p < filas[i + 1]; p++) {
+                    fila[local[columnas[p]]] = valores[p];
+                }
+                destino.escribirFila(r, 0, fila, 0, m);
+            }
+            sub = new Circuito(destino, circuito.getComplejidad(), nombre);
+        } else {
+            sub = new Circuito(m, circuito.getComplejidad(), nombre);
+            double[][] coeficientes = sub.getCoeficientes();
+            for (int r = 0; r < m; r++) {
+                int i = nodos[r];
+                for (int p = filas[i]; p < filas[i + 1]; p++) {
+                    coeficientes[r][local[columnas[p]]] = valores[p];
+                }
+            }
+        }
+        
+        double[] b = circuito.getTerminosIndep();
+        double[] bSub = sub.getTerminosIndep();
+        for (int r = 0; r < m; r++) {
+            bSub[r] = b[nodos[r]];
+        }
+        return sub;
+    }
+    
+    /**
+     * Extrae un bloque, lo resuelve y escribe sus filas de X (disjuntas entre bloques)
+     */
+    private static class Bloque extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        
+        private final Supplier<MetodoResolucion> fabrica;
+        private final Circuito circuito;
+        private final MatrizCSR A;
+        private final int[] nodos;
+        private final int[] local;
+        private final double[][] B;
+        private final double[][] X;
+        
+        Bloque(Supplier<MetodoResolucion> fabrica, Circuito circuito, MatrizCSR A, int[] nodos, int[] local,
+               double[][] B, double[][] X) {
+            this.fabrica = fabrica;
+            this.circuito = circuito;
+            this.A = A;
+            this.nodos = nodos;
+            this.local = local;
+            this.B = B;
+            this.X = X;
+        }
+        
+        @Override
+        protected void compute() {
+            String nombre = circuito.getNombre() + " [bloque de " + nodos.length + " mallas desde " + nodos[0] + "]";
+            Circuito sub = extraer(circuito, A, nodos, local, nombre);
+            try {
+                double[][] BSub = new double[nodos.length][];
+                for (int r = 0; r < nodos.length; r++) {
+                    BSub[r] = B[nodos[r]];
+                }
+                double[][] XSub = resolverUnico(fabrica.get(), sub, BSub);
+                for (int r = 0; r < nodos.length; r++) {
+                    X[nodos[r]] = XSub[r];
+                }
+            } finally {
+                if (sub.esFueraHeap()) {
+                    sub.getCoeficientesFueraHeap().close();
+                }
+            }
+        }
+    }
+    
+    public int getCantidadBloques() {
+        return cantidadBloques;
+    }
+    
+    public int getMayorBloque() {
+        return mayorBloque;
+    }
+    
+    @Override
+    public String getDetalle() {
+        if (cantidadBloques == 0) return null;
+        return String.format("%d bloques (mayor: %d mallas, aisladas: %d), costo denso %.3g%% del sistema completo",
+            cantidadBloques, mayorBloque, aislados, 100 * fraccionCosto);
+    }
+    
+    @Override
+    public long getTiempoEjecucion() {
+        return tiempoEjecucion;
+    }
+    
+    @Override
+    public double[] getSolucion() {
+        return solucion;
+    }
+    
+    @Override
+    public EstadoMetodo getEstado() {
+        return estado;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,235 @@
+package metodos;
+
+import circuitos.Circuito;
+import circuitos.MatrizCSR;
+import circuitos.MatrizFueraHeap;
+
+/**
+ * Etapa de reordenamiento previa a la factorización
+ * 
+ * Renumera las mallas (P·A·Pᵀ·y = P·b), resuelve el sistema permutado con
+ * el método delegado y devuelve x = Pᵀ·y. Con Cuthill-McKee inverso los
+ * coeficientes se juntan cerca de la diagonal, así LibreriaNumerica pasa a
+ * usar la LU banda aunque la numeración original fuera mala; con grado
+ * mínimo aproximado baja el relleno de las factorizaciones dispersas.
+ * Informa banda, envolvente y relleno previsto antes y después.
+ */
+public class MetodoReordenado implements MetodoResolucion {
+    private Circuito circuito;
+    private double[] solucion;
+    private long tiempoEjecucion;
+    private EstadoMetodo estado;
+    private final MetodoResolucion delegado;
+    private final Estrategia estrategia;
+    private Reordenamiento.Metricas antes;
+    private Reordenamiento.Metricas despues;
+    private long nanosReordenamiento;
+    
+    /**
+     * Reordenamientos disponibles
+     */
+    public enum Estrategia {
+        CUTHILL_MCKEE_INVERSO,   // Minimiza banda y envolvente: ideal para LU banda
+        GRADO_MINIMO_APROXIMADO, // Minimiza el relleno: ideal para LU dispersa
+        GRADO_MINIMO             // Grado exacto: referencia para comparar el relleno de AMD, más lento
+    }
+    
+    public MetodoReordenado() {
+        this(new LibreriaNumerica(), Estrategia.CUTHILL_MCKEE_INVERSO);
+    }
+    
+    /**
+     * @param delegado Método que resuelve el sistema ya permutado
+     * @param estrategia Reordenamiento a aplicar
+     */
+    public MetodoReordenado(MetodoResolucion delegado, Estrategia estrategia) {
+        this.delegado = delegado;
+        this.estrategia = estrategia;
+        this.estado = EstadoMetodo.LISTO;
+    }
+    
+    @Override
+    public String getNombre() {
+        return "Reordenado(" + delegado.getNombre() + ")";
+    }
+    
+    @Override
+    public void setCircuito(Circuito circuito) {
+        this.circuito = circuito;
+        this.estado = EstadoMetodo.LISTO;
+    }
+    
+    @Override
+    public void run() {
+        if (circuito == null) {
+            System.err.println("[" + getNombre() + "] Error: Circuito no establecido");
+            estado = EstadoMetodo.ERROR;
+            return;
+        }
+        
+        System.out.println("[" + getNombre() + "] Iniciando resolución de: " + circuito.getNombre());
+        estado = EstadoMetodo.EJECUTANDO;
+        
+        long inicio = System.nanoTime();
+        try {
+            solucion = resolver(circuito);
+            tiempoEjecucion = (System.nanoTime() - inicio) / 1_000_000;
+            estado = EstadoMetodo.TERMINADO;
+            System.out.println("[" + getNombre() + "] Completado en " + tiempoEjecucion + " ms → " + getDetalle());
+        } catch (Exception e) {
+            estado = EstadoMetodo.ERROR;
+            System.err.println("[" + getNombre() + "] Error: " + e.getMessage());
+        }
+    }
+    
+    @Override
+    public double[] resolver(Circuito circuito) {
+        int[] orden = ordenar(circuito);
+        Circuito permutado = permutar(circuito, orden);
+        try {
+            double[] y = delegado.resolver(permutado);
+            double[] x = new double[y.length];
+            for (int k = 0; k < orden.length; k++) {
+                x[orden[k]] = y[k];
+            }
+            return x;
+        } finally {
+            if (permutado.esFueraHeap()) {
+                permutado.getCoeficientesFueraHeap().close();
+            }
+        }
+    }
+    
+    /**
+     * Un solo reordenamiento para las k columnas de B
+     */
+    @Override
+    public double[][] resolverMultiple(Circuito circuito, double[][] B) {
+        MetodoResolucion.validarTerminos(B, circuito.getNumMallas());
+        int[] orden = ordenar(circuito);
+        Circuito permutado = permutar(circuito, orden);
+        try {
+            double[][] BP = new double[orden.length][];
+            for (int k = 0; k < orden.length; k++) {
+                BP[k] = B[orden[k]];
+            }
+            double[][] Y = delegado.resolverMultiple(permutado, BP);
+            double[][] X = new double[orden.length][];
+            for (int k = 0; k < orden.length; k++) {
+                X[orden[k]] = Y[k];
+            }
+            return X;
+        } finally {
+            if (permutado.esFueraHeap()) {
+                permutado.getCoeficientesFueraHeap().close();
+            }
+        }
+    }
+    
+    /**
+     * Calcula el orden y las métricas antes y después
+     */
+    private int[] ordenar(Circuito circuito) {
+        long inicio = System.nanoTime();
+        MatrizCSR A = circuito.getCoeficientesDispersos();
+        int[] orden;
+        switch (estrategia) {
+            case CUTHILL_MCKEE_INVERSO:
+                orden = Reordenamiento.cuthillMcKeeInverso(A);
+                break;
+            case GRADO_MINIMO:
+                orden = Reordenamiento.gradoMinimo(A);
+                break;
+            default:
+                orden = Reordenamiento.gradoMinimoAproximado(A);
+        }
+        nanosReordenamiento = System.nanoTime() - inicio;
+        antes = Reordenamiento.medir(A, null);
+        despues = Reordenamiento.medir(A, orden);
+        return orden;
+    }
+    
+    /**
+     * Circuito con filas y columnas renumeradas, en el mismo tipo de almacenamiento
+     */
+    private static Circuito permutar(Circuito circuito, int[] orden) {
+        int n = circuito.getNumMallas();
+        double[] b = circuito.getTerminosIndep();
+        Circuito permutado;
+        
+        if (circuito.esDisperso()) {
+            permutado = new Circuito(circuito.getCoeficientesDispersos().permutar(orden),
+                circuito.getComplejidad(), circuito.getNombre());
+        } else if (circuito.esFueraHeap()) {
+            MatrizFueraHeap origen = circuito.getCoeficientesFueraHeap();
+            MatrizFueraHeap destino = MatrizFueraHeap.asignar(n);
+            double[] fila = new double[n];
+            double[] filaP = new double[n];
+            for (int k = 0; k < n; k++) {
+                origen.leerFila(orden[k], 0, fila, 0, n);
+                for (int l = 0; l < n; l++) {
+                    filaP[l] = fila[orden[l]];
+                }
+                destino.escribirFila(k, 0, filaP, 0, n);
+            }
+            permutado = new Circuito(destino, circuito.getComplejidad(), circuito.getNombre());
+        } else {
+            double[][] A = circuito.getCoeficientes();
+            permutado = new Circuito(n, circuito.getComplejidad(), circuito.getNombre());
+            double[][] AP = permutado.getCoeficientes();
+            for (int k = 0; k < n; k++) {
+                double[] fila = A[orden[k]];
+                for (int l = 0; l < n; l++) {
+                    AP[k][l] = fila[orden[l]];
+                }
+            }
+        }
+        
+        double[] bP = permutado.getTerminosIndep();
+        for (int k = 0; k < n; k++) {
+            bP[k] = b[orden[k]];
+        }
+        return permutado;
+    }
+    
+    /**
+     * Métricas con la numeración original (null antes de resolver)
+     */
+    public Reordenamiento.Metricas getMetricasAntes() {
+        return antes;
+    }
+    
+    /**
+     * Métricas con la numeración elegida (null antes de resolver)
+     */
+    public Reordenamiento.Metricas getMetricasDespues() {
+        return despues;
+    }
+    
+    public long getTiempoReordenamiento() {
+        return nanosReordenamiento / 1_000_000;
+    }
+    
+    @Override
+    public String getDetalle() {
+        if (antes == null) return null;
+        return String.format("%s en %d ms: banda %d → %d, envolvente %d → %d, nnz(L) %d → %d", estrategia,
+            getTiempoReordenamiento(), antes.getAnchoBanda(), despues.getAnchoBanda(), antes.getEnvolvente(),
+            despues.getEnvolvente(), antes.getNoNulosL(), despues.getNoNulosL());
+    }
+    
+    @Override
+    public long getTiempoEjecucion() {
+        return tiempoEjecucion;
+    }
+    
+    @Override
+    public double[] getSolucion() {
+        return solucion;
+    }
+    
+    @Override
+    public EstadoMetodo getEstado() {
+        return estado;
+    }
+}
\ No newline at end of file
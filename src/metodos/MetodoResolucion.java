@@ -19,6 +19,63 @@ public interface MetodoResolucion extends Runnable {
      */
     double[] resolver(Circuito circuito);
     
+    /**
+     * Resuelve el sistema para varios vectores de términos independientes a la vez
+     * La implementación por defecto resuelve cada columna por separado; los métodos
+     * que pueden reutilizar la eliminación la sobrescriben.
+     * @param circuito El circuito cuyos coeficientes se usan
+     * @param B Matriz n×k: la columna c es el c-ésimo vector de términos independientes
+     * @return Matriz n×k con las corrientes de cada caso en su columna
+     */
+    default double[][] resolverMultiple(Circuito circuito, double[][] B) {
+        int n = circuito.getNumMallas();
+        int k = validarTerminos(B, n);
+        double[][] X = new double[n][k];
+        double[] b = new double[n];
+        for (int c = 0; c < k; c++) {
+            for (int i = 0; i < n; i++) {
+                b[i] = B[i][c];
+            }
+            double[] x = resolver(circuito.conTerminosIndep(b));
+            for (int i = 0; i < n; i++) {
+                X[i][c] = x[i];
+            }
+        }
+        return X;
+    }
+    
+    /**
+     * Verifica que B tenga una fila por malla y que todas tengan la misma
+     * cantidad de columnas, antes de que los métodos empiecen a indexarla
+     * @return Cantidad de columnas (casos) de B
+     */
+    static int validarTerminos(double[][] B, int n) {
+        if (B == null || B.length != n) {
+            throw new IllegalArgumentException("Se esperaban " + n + " filas de términos independientes");
+        }
+        int k = -1;
+        for (int i = 0; i < n; i++) {
+            if (B[i] == null) {
+                throw new IllegalArgumentException("Falta la fila " + i + " de términos independientes");
+            }
+            if (k < 0) {
+                k = B[i].length;
+            } else if (B[i].length != k) {
+                throw new IllegalArgumentException("La fila " + i + " de términos independientes tiene "
+                    + B[i].length + " columnas, se esperaban " + k);
+            }
+        }
+        return Math.max(k, 0);
+    }
+    
+    /**
+     * Descripción de las decisiones internas de la última resolución
+     * (motor elegido, respaldos usados); null si el método no toma decisiones
+     */
+    default String getDetalle() {
+        return null;
+    }
+    
     /**
      * Obtiene el tiempo de ejecución en milisegundos
      */
@@ -46,6 +103,7 @@ public interface MetodoResolucion extends Runnable {
         LISTO,      // Preparado para ejecutar
         EJECUTANDO, // En proceso de cálculo
         TERMINADO,  // Completado exitosamente
+        SUSPENDIDO, // Expropiado en un punto seguro, con punto de control
         ERROR       // Error durante ejecución
     }
 }
\ No newline at end of file
@@ -0,0 +1,124 @@
+package metodos;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Modelo de costo de los métodos: tiempo ≈ flops · (ns por flop)
+ * 
+ * Los flops de cada candidato salen de su complejidad sobre el perfil del
+ * circuito; los ns por flop arrancan con valores medidos en una máquina de
+ * referencia y se recalibran con cada resolución mediante un promedio
+ * móvil exponencial, así el modelo se ajusta a la CPU en la que corre.
+ */
+public class ModeloCosto {
+    private static final double PESO_MEDICION = 0.3;
+    // Por debajo de esto el tiempo lo dominan costos fijos, no los flops
+    private static final double FLOPS_MINIMOS_CALIBRACION = 1e6;
+    
+    private final Map<MetodoAdaptativo.Candidato, Double> nsPorFlop =
+        new EnumMap<>(MetodoAdaptativo.Candidato.class);
+    private double iteracionesPorRaiz = 10.0; // Iteraciones de PCG ≈ factor · √n
+    private int mediciones;
+    
+    public ModeloCosto() {
+        for (MetodoAdaptativo.Candidato c : MetodoAdaptativo.Candidato.values()) {
+            nsPorFlop.put(c, c.nsPorFlopInicial);
+        }
+    }
+    
+    /**
+     * Tiempo estimado en nanosegundos (infinito si el candidato no aplica al circuito)
+     */
+    public synchronized double estimar(MetodoAdaptativo.Candidato candidato, MetodoAdaptativo.Perfil perfil) {
+        return flops(candidato, perfil) * nsPorFlop.get(candidato);
+    }
+    
+    /**
+     * Operaciones de punto flotante aproximadas de cada método
+     */
+    synchronized double flops(MetodoAdaptativo.Candidato candidato, MetodoAdaptativo.Perfil perfil) {
+        double n = perfil.getNumMallas();
+        double kl = perfil.getAnchoInferior();
+        double ku = perfil.getAnchoSuperior();
+        double banda = 2 * n * kl * (kl + ku + 1) + 2 * n * (2 * kl + ku + 1);
+        
+        // Solo Gauss-Jordan y las LU leen directamente una matriz fuera del heap
+        if (perfil.isFueraHeap() && candidato != MetodoAdaptativo.Candidato.GAUSS_JORDAN
+                && candidato != MetodoAdaptativo.Candidato.LU && candidato != MetodoAdaptativo.Candidato.LU_BANDA) {
+            return Double.POSITIVE_INFINITY;
+        }
+        
+        // Con coeficientes dispersos, los métodos densos materializarían n² valores
+        if (perfil.isDisperso() && candidato != MetodoAdaptativo.Candidato.LU_DISPERSA
+                && candidato != MetodoAdaptativo.Candidato.LU_BANDA
+                && candidato != MetodoAdaptativo.Candidato.GRADIENTE_CONJUGADO) {
+            return Double.POSITIVE_INFINITY;
+        }
+        
+        switch (candidato) {
+            case GAUSS_JORDAN:
+                return n * n * n;
+            case CRAMER:
+                // n + 1 determinantes por eliminación
+                return (n + 1) * 2.0 / 3.0 * n * n * n;
+            case LU:
+                // LibreriaNumerica ya usa la banda cuando conviene
+                return perfil.isBandeado() ? banda : 2.0 / 3.0 * n * n * n + 2 * n * n;
+            case LU_BANDA:
+                return banda;
+            case CHOLESKY:
+                return perfil.isSimetrica() ? n * n * n / 3.0 + 2 * n * n : Double.POSITIVE_INFINITY;
+            case GRADIENTE_CONJUGADO:
+                if (!perfil.isSimetrica()) return Double.POSITIVE_INFINITY;
+                return Math.min(n, iteracionesPorRaiz * Math.sqrt(n)) * (2.0 * perfil.getNoNulos() + 10 * n);
+            case LU_PRECISION_MIXTA:
+                // La factorización en float cuenta como la mitad; más unos pocos refinamientos
+                return n * n * n / 3.0 + 8 * n * n;
+            case LU_DISPERSA: {
+                // Relleno de grado mínimo en grafos tipo malla plana: ~ (nnz/n)² · n^1.5
+                double porFila = perfil.getNoNulos() / Math.max(1.0, n);
+                return Math.min(porFila * porFila * n * Math.sqrt(n), 2.0 / 3.0 * n * n * n) + perfil.getNoNulos();
+            }
+            default:
+                return Double.POSITIVE_INFINITY;
+        }
+    }
+    
+    /**
+     * Incorpora el tiempo medido de una resolución
+     */
+    public synchronized void registrar(MetodoAdaptativo.Candidato candidato, MetodoAdaptativo.Perfil perfil,
+                                       long nanos) {
+        double flops = flops(candidato, perfil);
+        if (flops < FLOPS_MINIMOS_CALIBRACION || Double.isInfinite(flops)) return;
+        double medido = nanos / flops;
+        nsPorFlop.put(candidato, (1 - PESO_MEDICION) * nsPorFlop.get(candidato) + PESO_MEDICION * medido);
+        mediciones++;
+    }
+    
+    /**
+     * Ajusta la estimación de iteraciones de PCG con las realmente usadas
+     */
+    public synchronized void registrarIteraciones(int numMallas, int iteraciones) {
+        double factor = iteraciones / Math.sqrt(Math.max(1, numMallas));
+        iteracionesPorRaiz = (1 - PESO_MEDICION) * iteracionesPorRaiz + PESO_MEDICION * factor;
+    }
+    
+    public synchronized double getNsPorFlop(MetodoAdaptativo.Candidato candidato) {
+        return nsPorFlop.get(candidato);
+    }
+    
+    public synchronized int getMediciones() {
+        return mediciones;
+    }
+    
+    @Override
+    public synchronized String toString() {
+        StringBuilder sb = new StringBuilder("Modelo de costo (" + mediciones + " mediciones):");
+        for (Map.Entry<MetodoAdaptativo.Candidato, Double> e : nsPorFlop.entrySet()) {
+            sb.append(String.format("%n  - %-22s %.3f ns/flop", e.getKey().getNombre(), e.getValue()));
+        }
+        return sb.toString();
+    }
+}
\ No newline at end of file
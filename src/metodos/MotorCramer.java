@@ -0,0 +1,155 @@
+package metodos;
+
+/**
+ * Regla de Cramer sin estado con determinantes por eliminación
+ * Complejidad: O(n⁴); cada Aᵢ se arma sobre el mismo espacio de trabajo
+ * en lugar de copiar la matriz por columna
+ */
+public final class MotorCramer implements MotorResolucion {
+    
+    @Override
+    public String getNombre() {
+        return "Motor-Cramer";
+    }
+    
+    @Override
+    public void resolver(MatrizPlana A, double[] b, double[] x) {
+        int n = A.getDimension();
+        EspacioTrabajo espacio = EspacioTrabajo.actual();
+        int[] exponente = espacio.indices(1);
+        
+        double[] a = espacio.matriz(A);
+        double umbral = umbralPivote(a, n);
+        double mantisaA = determinante(a, n, exponente, umbral);
+        verificar(mantisaA);
+        int exponenteA = exponente[0];
+        
+        for (int i = 0; i < n; i++) {
+            a = espacio.matriz(A);
+            for (int j = 0; j < n; j++) {
+                a[j * n + i] = b[j];
+            }
+            double mantisaI = determinante(a, n, exponente, 0.0);
+            x[i] = cociente(mantisaI, exponente[0], mantisaA, exponenteA);
+        }
+    }
+    
+    @Override
+    public void resolver(double[][] A, double[] b, double[] x) {
+        int n = A.length;
+        EspacioTrabajo espacio = EspacioTrabajo.actual();
+        int[] exponente = espacio.indices(1);
+        
+        double[] a = espacio.matriz(A);
+        double umbral = umbralPivote(a, n);
+        double mantisaA = determinante(a, n, exponente, umbral);
+        verificar(mantisaA);
+        int exponenteA = exponente[0];
+        
+        for (int i = 0; i < n; i++) {
+            a = espacio.matriz(A);
+            for (int j = 0; j < n; j++) {
+                a[j * n + i] = b[j];
+            }
+            double mantisaI = determinante(a, n, exponente, 0.0);
+            x[i] = cociente(mantisaI, exponente[0], mantisaA, exponenteA);
+        }
+    }
+    
+    static void verificar(double mantisaA) {
+        if (mantisaA == 0.0) {
+            throw new ArithmeticException("Sistema sin solución única (det ≈ 0)");
+        }
+    }
+    
+    /**
+     * Pivote mínimo aceptado para det(A): relativo a ‖A‖∞, así la decisión no
+     * depende de la escala de las resistencias (det = 1e-20 puede ser un
+     * sistema perfectamente condicionado)
+     */
+    static double umbralPivote(double[] a, int n) {
+        double norma = 0.0;
+        for (int i = 0; i < n; i++) {
+            double suma = 0.0;
+            for (int j = i * n, fin = j + n; j < fin; j++) {
+                suma += Math.abs(a[j]);
+            }
+            norma = Math.max(norma, suma);
+        }
+        return 1e-10 * norma;
+    }
+    
+    /**
+     * det(Aᵢ) / det(A) a partir de mantisas y exponentes binarios
+     * @throws ArithmeticException si el cociente no es representable en double
+     */
+    static double cociente(double mantisaI, int exponenteI, double mantisaA, int exponenteA) {
+        double x = Math.scalb(mantisaI / mantisaA, exponenteI - exponenteA);
+        if (!Double.isFinite(x)) {
+            throw new ArithmeticException("La solución excede el rango de double");
+        }
+        return x;
+    }
+    
+    /**
+     * Triangula a (espacio de trabajo) con pivoteo parcial:
+     * det = (-1)^intercambios * producto de los pivotes
+     * 
+     * El producto se lleva como mantisa en [1, 2) y exponente binario, que
+     * no se desborda ni se anula aunque n sea grande.
+     * 
+     * @param exponente exponente[0] recibe el exponente binario del determinante
+     * @param umbral Pivote máximo por debajo del cual la matriz se toma como singular
+     * @return Mantisa con signo (det = mantisa · 2^exponente[0]); 0 si es singular
+     */
+    static double determinante(double[] a, int n, int[] exponente, double umbral) {
+        double mantisa = 1.0;
+        int exp = 0;
+        exponente[0] = 0;
+        
+        for (int i = 0; i < n; i++) {
+            int filaI = i * n;
+            int maxRow = i;
+            double max = Math.abs(a[filaI + i]);
+            for (int k = i + 1; k < n; k++) {
+                double v = Math.abs(a[k * n + i]);
+                if (v > max) {
+                    max = v;
+                    maxRow = k;
+                }
+            }
+            
+            if (max == 0.0 || max < umbral) {
+                return 0.0;
+            }
+            
+            if (maxRow != i) {
+                int filaMax = maxRow * n;
+                for (int j = i; j < n; j++) {
+                    double temp = a[filaI + j];
+                    a[filaI + j] = a[filaMax + j];
+                    a[filaMax + j] = temp;
+                }
+                mantisa = -mantisa;
+            }
+            
+            double pivote = a[filaI + i];
+            int e = Math.getExponent(pivote);
+            mantisa *= Math.scalb(pivote, -e);
+            exp += e;
+            int ajuste = Math.getExponent(mantisa);
+            mantisa = Math.scalb(mantisa, -ajuste);
+            exp += ajuste;
+            
+            for (int k = i + 1; k < n; k++) {
+                int filaK = k * n;
+                double factor = a[filaK + i] / pivote;
+                if (factor == 0.0) continue;
+                Nucleos.ACTIVO.axpy(-factor, a, filaI + i + 1, a, filaK + i + 1, n - i - 1);
+            }
+        }
+        
+        exponente[0] = exp;
+        return mantisa;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,141 @@
+package metodos;
+
+import circuitos.MatrizFueraHeap;
+
+/**
+ * Gauss-Jordan sin estado sobre matriz plana
+ * Complejidad: O(n³), sin asignaciones en régimen estable
+ */
+public final class MotorGaussJordan implements MotorResolucion {
+    
+    @Override
+    public String getNombre() {
+        return "Motor-Gauss-Jordan";
+    }
+    
+    @Override
+    public void resolver(MatrizPlana A, double[] b, double[] x) {
+        eliminar(EspacioTrabajo.actual().matriz(A), A.getDimension(), b, x);
+    }
+    
+    @Override
+    public void resolver(double[][] A, double[] b, double[] x) {
+        eliminar(EspacioTrabajo.actual().matriz(A), A.length, b, x);
+    }
+    
+    /**
+     * Reduce a (copia de trabajo) a la identidad con pivoteo parcial; x termina con la solución
+     */
+    private static void eliminar(double[] a, int n, double[] b, double[] x) {
+        System.arraycopy(b, 0, x, 0, n);
+        for (int i = 0; i < n; i++) {
+            eliminarColumna(a, n, x, i);
+        }
+    }
+    
+    /**
+     * Un paso de Gauss-Jordan: pivotea en la columna i, normaliza la fila
+     * y anula la columna en todas las demás filas
+     */
+    static void eliminarColumna(double[] a, int n, double[] x, int i) {
+        int filaI = i * n;
+        
+        // Encontrar pivote máximo
+        int maxRow = i;
+        double max = Math.abs(a[filaI + i]);
+        for (int k = i + 1; k < n; k++) {
+            double v = Math.abs(a[k * n + i]);
+            if (v > max) {
+                max = v;
+                maxRow = k;
+            }
+        }
+        
+        // Intercambiar filas (solo columnas ≥ i: las anteriores ya son cero)
+        if (maxRow != i) {
+            int filaMax = maxRow * n;
+            for (int j = i; j < n; j++) {
+                double temp = a[filaI + j];
+                a[filaI + j] = a[filaMax + j];
+                a[filaMax + j] = temp;
+            }
+            double temp = x[i];
+            x[i] = x[maxRow];
+            x[maxRow] = temp;
+        }
+        
+        if (max < 1e-10) {
+            throw new ArithmeticException("Matriz singular o casi singular");
+        }
+        
+        // Normalizar fila pivote
+        double pivote = a[filaI + i];
+        for (int j = i; j < n; j++) {
+            a[filaI + j] /= pivote;
+        }
+        x[i] /= pivote;
+        
+        // Eliminar columna en otras filas
+        for (int k = 0; k < n; k++) {
+            if (k == i) continue;
+            int filaK = k * n;
+            double factor = a[filaK + i];
+            if (factor == 0.0) continue;
+            Nucleos.ACTIVO.axpy(-factor, a, filaI + i, a, filaK + i, n - i);
+            x[k] -= factor * x[i];
+        }
+    }
+    
+    /**
+     * Gauss-Jordan sobre una matriz fuera del heap (se modifica): la fila pivote
+     * se trae al heap una vez por paso y cada fila a actualizar entra y sale una vez
+     * @param x Términos independientes al entrar, solución al salir
+     */
+    static void eliminar(MatrizFueraHeap a, double[] x) {
+        int n = a.getDimension();
+        double[] filaPivote = new double[n];
+        double[] fila = new double[n];
+        
+        for (int i = 0; i < n; i++) {
+            int maxRow = i;
+            double max = Math.abs(a.get(i, i));
+            for (int k = i + 1; k < n; k++) {
+                double v = Math.abs(a.get(k, i));
+                if (v > max) {
+                    max = v;
+                    maxRow = k;
+                }
+            }
+            
+            if (maxRow != i) {
+                a.intercambiarFilas(i, maxRow, i, n);
+                double temp = x[i];
+                x[i] = x[maxRow];
+                x[maxRow] = temp;
+            }
+            
+            if (max < 1e-10) {
+                throw new ArithmeticException("Matriz singular o casi singular");
+            }
+            
+            int largo = n - i;
+            a.leerFila(i, i, filaPivote, 0, largo);
+            double pivote = filaPivote[0];
+            for (int j = 0; j < largo; j++) {
+                filaPivote[j] /= pivote;
+            }
+            a.escribirFila(i, i, filaPivote, 0, largo);
+            x[i] /= pivote;
+            
+            for (int k = 0; k < n; k++) {
+                if (k == i) continue;
+                double factor = a.get(k, i);
+                if (factor == 0.0) continue;
+                a.leerFila(k, i, fila, 0, largo);
+                Nucleos.ACTIVO.axpy(-factor, filaPivote, 0, fila, 0, largo);
+                a.escribirFila(k, i, fila, 0, largo);
+                x[k] -= factor * x[i];
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,42 @@
+package metodos;
+
+/**
+ * LU por bloques sin estado sobre matriz plana
+ * Factoriza en el espacio de trabajo del hilo y resuelve en el arreglo de salida,
+ * sin asignaciones en régimen estable
+ */
+public final class MotorLU implements MotorResolucion {
+    private final int tamanoBloque;
+    
+    public MotorLU() {
+        this(FactorizacionLU.BLOQUE_POR_DEFECTO);
+    }
+    
+    public MotorLU(int tamanoBloque) {
+        this.tamanoBloque = tamanoBloque;
+    }
+    
+    @Override
+    public String getNombre() {
+        return "Motor-LU";
+    }
+    
+    @Override
+    public void resolver(MatrizPlana A, double[] b, double[] x) {
+        EspacioTrabajo espacio = EspacioTrabajo.actual();
+        resolver(espacio.matriz(A), A.getDimension(), espacio, b, x);
+    }
+    
+    @Override
+    public void resolver(double[][] A, double[] b, double[] x) {
+        EspacioTrabajo espacio = EspacioTrabajo.actual();
+        resolver(espacio.matriz(A), A.length, espacio, b, x);
+    }
+    
+    private void resolver(double[] a, int n, EspacioTrabajo espacio, double[] b, double[] x) {
+        int[] pivotes = espacio.indices(n);
+        FactorizacionLU.factorizarEnSitio(a, n, pivotes, tamanoBloque);
+        System.arraycopy(b, 0, x, 0, n);
+        FactorizacionLU.sustituir(a, n, pivotes, x);
+    }
+}
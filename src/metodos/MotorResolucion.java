@@ -0,0 +1,28 @@
+package metodos;
+
+/**
+ * Motor de resolución sin estado
+ * 
+ * A diferencia de MetodoResolucion, un motor no guarda circuito ni solución:
+ * una misma instancia puede atender a varios hilos a la vez. Los temporales
+ * salen del EspacioTrabajo del hilo y la solución se escribe en un arreglo
+ * del llamador, por lo que en régimen estable no se asigna memoria.
+ */
+public interface MotorResolucion {
+    
+    /**
+     * Nombre identificador del motor
+     */
+    String getNombre();
+    
+    /**
+     * Resuelve A·x = b sin modificar A ni b
+     * @param x Arreglo de salida de longitud n
+     */
+    void resolver(MatrizPlana A, double[] b, double[] x);
+    
+    /**
+     * Igual que resolver(MatrizPlana, ...) pero leyendo una matriz dentada
+     */
+    void resolver(double[][] A, double[] b, double[] x);
+}
@@ -0,0 +1,60 @@
+package metodos;
+
+/**
+ * Implementación escalar de los núcleos: bucles simples que el JIT puede
+ * autovectorizar, con cuatro acumuladores en el producto para cortar la
+ * dependencia entre sumas sucesivas
+ */
+class NucleoEscalar implements NucleoVectorial {
+    
+    @Override
+    public void axpy(double a, double[] x, int ox, double[] y, int oy, int largo) {
+        for (int i = 0; i < largo; i++) {
+            y[oy + i] += a * x[ox + i];
+        }
+    }
+    
+    @Override
+    public double producto(double[] x, int ox, double[] y, int oy, int largo) {
+        double s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+        int i = 0;
+        for (; i + 3 < largo; i += 4) {
+            s0 += x[ox + i] * y[oy + i];
+            s1 += x[ox + i + 1] * y[oy + i + 1];
+            s2 += x[ox + i + 2] * y[oy + i + 2];
+            s3 += x[ox + i + 3] * y[oy + i + 3];
+        }
+        for (; i < largo; i++) {
+            s0 += x[ox + i] * y[oy + i];
+        }
+        return (s0 + s1) + (s2 + s3);
+    }
+    
+    @Override
+    public void axpy(float a, float[] x, int ox, float[] y, int oy, int largo) {
+        for (int i = 0; i < largo; i++) {
+            y[oy + i] += a * x[ox + i];
+        }
+    }
+    
+    @Override
+    public float producto(float[] x, int ox, float[] y, int oy, int largo) {
+        float s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+        int i = 0;
+        for (; i + 3 < largo; i += 4) {
+            s0 += x[ox + i] * y[oy + i];
+            s1 += x[ox + i + 1] * y[oy + i + 1];
+            s2 += x[ox + i + 2] * y[oy + i + 2];
+            s3 += x[ox + i + 3] * y[oy + i + 3];
+        }
+        for (; i < largo; i++) {
+            s0 += x[ox + i] * y[oy + i];
+        }
+        return (s0 + s1) + (s2 + s3);
+    }
+    
+    @Override
+    public String getNombre() {
+        return "escalar";
+    }
+}
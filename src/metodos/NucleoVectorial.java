@@ -0,0 +1,36 @@
+package metodos;
+
+/**
+ * Operaciones de nivel 1 (BLAS) que dominan los bucles internos de la eliminación
+ * 
+ * Hay dos implementaciones: una escalar, siempre disponible, y otra con la
+ * Vector API de Java (jdk.incubator.vector) que se compila aparte desde
+ * src-simd y solo se usa si el módulo está presente al ejecutar.
+ */
+interface NucleoVectorial {
+    
+    /**
+     * y[oy + i] += a * x[ox + i] para i en [0, largo)
+     */
+    void axpy(double a, double[] x, int ox, double[] y, int oy, int largo);
+    
+    /**
+     * Σ x[ox + i] * y[oy + i] para i en [0, largo)
+     */
+    double producto(double[] x, int ox, double[] y, int oy, int largo);
+    
+    /**
+     * axpy en precisión simple: el doble de elementos por vector y la mitad de bytes
+     */
+    void axpy(float a, float[] x, int ox, float[] y, int oy, int largo);
+    
+    /**
+     * Producto escalar en precisión simple
+     */
+    float producto(float[] x, int ox, float[] y, int oy, int largo);
+    
+    /**
+     * Nombre de la implementación (incluye el ancho de vector si aplica)
+     */
+    String getNombre();
+}
@@ -0,0 +1,35 @@
+package metodos;
+
+/**
+ * Selecciona en tiempo de ejecución la implementación de los núcleos vectoriales
+ * 
+ * Intenta cargar metodos.NucleoVectorAPI (compilado desde src-simd). Si la clase
+ * no existe o el módulo jdk.incubator.vector no está disponible
+ * (falta --add-modules jdk.incubator.vector), se usa la versión escalar.
+ * La propiedad -Dcircuitos.simd=false fuerza la versión escalar.
+ */
+public final class Nucleos {
+    static final NucleoVectorial ACTIVO = cargar();
+    
+    private Nucleos() {
+    }
+    
+    private static NucleoVectorial cargar() {
+        if (!"false".equals(System.getProperty("circuitos.simd"))) {
+            try {
+                Class<?> clase = Class.forName("metodos.NucleoVectorAPI");
+                return (NucleoVectorial) clase.getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException | LinkageError e) {
+                // Sin Vector API: se continúa con la versión escalar
+            }
+        }
+        return new NucleoEscalar();
+    }
+    
+    /**
+     * Nombre del núcleo en uso, para mostrar en los reportes
+     */
+    public static String getNombre() {
+        return ACTIVO.getNombre();
+    }
+}
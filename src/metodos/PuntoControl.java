@@ -0,0 +1,63 @@
+package metodos;
+
+import circuitos.Circuito;
+
+/**
+ * Estado parcial de una resolución expropiada
+ * 
+ * Un método Reanudable lo arma al detectar la interrupción en un punto seguro
+ * (entre pivotes, bloques o columnas) y lo vuelve a cargar en el siguiente
+ * quantum para continuar desde ahí en lugar de empezar de cero. Los arreglos
+ * son propios del punto de control: no dependen del hilo que lo generó.
+ */
+public final class PuntoControl {
+    final String metodo;
+    final Circuito circuito;
+    final int pasosTotales;
+    final double[] matriz;  // eliminación parcial, en orden por filas
+    final double[] vector;  // términos independientes o resultados parciales
+    final int[] enteros;    // pivotes
+    int paso;               // siguiente pivote, bloque o columna
+    double escalar;         // signo o determinante acumulado
+    long nanosAcumulados;   // tiempo de CPU de los quantums anteriores
+    
+    PuntoControl(String metodo, Circuito circuito, int pasosTotales,
+                 double[] matriz, double[] vector, int[] enteros) {
+        this.metodo = metodo;
+        this.circuito = circuito;
+        this.pasosTotales = pasosTotales;
+        this.matriz = matriz;
+        this.vector = vector;
+        this.enteros = enteros;
+    }
+    
+    /**
+     * Verifica que el punto de control pertenezca al método y circuito dados
+     */
+    void verificar(String metodo, Circuito circuito) {
+        if (!this.metodo.equals(metodo) || this.circuito != circuito) {
+            throw new IllegalArgumentException("El punto de control es de " + this.metodo
+                + " sobre " + this.circuito.getNombre());
+        }
+    }
+    
+    public int getPaso() {
+        return paso;
+    }
+    
+    public int getPasosTotales() {
+        return pasosTotales;
+    }
+    
+    /**
+     * Tiempo de CPU acumulado en los quantums anteriores, en milisegundos
+     */
+    public long getTiempoAcumulado() {
+        return nanosAcumulados / 1_000_000;
+    }
+    
+    @Override
+    public String toString() {
+        return "paso " + paso + "/" + pasosTotales + " (" + getTiempoAcumulado() + " ms acumulados)";
+    }
+}
\ No newline at end of file
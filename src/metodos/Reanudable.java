@@ -0,0 +1,33 @@
+package metodos;
+
+/**
+ * Método que puede ser expropiado y continuar donde quedó
+ * 
+ * Al ejecutarse revisa la interrupción del hilo en puntos seguros; si la
+ * encuentra guarda su estado, pasa a SUSPENDIDO y termina run(). El
+ * planificador retira el punto de control y lo devuelve antes del
+ * siguiente quantum, así el trabajo ya hecho no se repite.
+ */
+public interface Reanudable extends MetodoResolucion {
+    
+    /**
+     * Retira el punto de control pendiente (null si no hay)
+     */
+    PuntoControl extraerPuntoControl();
+    
+    /**
+     * Carga un punto de control para que el próximo run() continúe desde él
+     * @throws IllegalArgumentException si pertenece a otro método o circuito
+     */
+    void restaurarPuntoControl(PuntoControl punto);
+    
+    /**
+     * Si el próximo run() revisa la interrupción en puntos seguros. Algunos
+     * caminos (por ejemplo los que delegan en factorizaciones externas)
+     * corren de una vez hasta terminar; en ese caso el planificador los
+     * trata como métodos no reanudables
+     */
+    default boolean admiteSuspension() {
+        return true;
+    }
+}
\ No newline at end of file
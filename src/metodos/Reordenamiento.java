@@ -0,0 +1,444 @@
+package metodos;
+
+import circuitos.MatrizCSR;
+import java.util.Arrays;
+import java.util.PriorityQueue;
+
+/**
+ * Reordenamientos de mallas que reducen el relleno de las factorizaciones
+ * 
+ * Trabajan sobre el grafo del patrón simétrico A + Aᵀ (una arista por cada
+ * par de mallas acopladas) y devuelven el orden de eliminación:
+ * orden[k] es la malla original que ocupa la posición k.
+ */
+public final class Reordenamiento {
+    
+    private Reordenamiento() {
+    }
+    
+    /**
+     * Grado mínimo: elimina siempre la malla con menos vecinas en el grafo de
+     * eliminación (empates por índice) y conecta entre sí a sus vecinas, que
+     * es exactamente el relleno que produciría la factorización.
+     * Costo: proporcional al relleno resultante, no a n². Las factorizaciones
+     * usan gradoMinimoAproximado; este queda como opción explícita de
+     * MetodoReordenado (Estrategia.GRADO_MINIMO) y como referencia de relleno.
+     */
+    public static int[] gradoMinimo(MatrizCSR A) {
+        int n = A.getDimension();
+        int[][] vecinas = adyacencia(A);
+        int[] grado = new int[n];
+        PriorityQueue<Long> cola = new PriorityQueue<>();
+        for (int i = 0; i < n; i++) {
+            grado[i] = vecinas[i].length;
+            cola.add(clave(grado[i], i));
+        }
+        
+        boolean[] eliminada = new boolean[n];
+        int[] marca = new int[n];
+        Arrays.fill(marca, -1);
+        int[] orden = new int[n];
+        
+        for (int k = 0; k < n; k++) {
+            int v;
+            while (true) {
+                long c = cola.poll();
+                v = (int) c;
+                if (!eliminada[v] && (int) (c >>> 32) == grado[v]) break;
+            }
+            eliminada[v] = true;
+            orden[k] = v;
+            
+            int[] nv = vecinas[v];
+            int gv = grado[v];
+            for (int a = 0; a < gv; a++) {
+                int u = nv[a];
+                int[] nu = vecinas[u];
+                int gu = grado[u];
+                
+                // Quitar v de las vecinas de u y marcar las que quedan
+                int escritas = 0;
+                for (int b = 0; b < gu; b++) {
+                    int w = nu[b];
+                    if (w == v) continue;
+                    nu[escritas++] = w;
+                    marca[w] = u;
+                }
+                marca[u] = u;
+                
+                // Agregar las demás vecinas de v (relleno)
+                for (int b = 0; b < gv; b++) {
+                    int w = nv[b];
+                    if (marca[w] == u) continue;
+                    if (escritas == nu.length) {
+                        nu = Arrays.copyOf(nu, Math.max(4, 2 * nu.length));
+                    }
+                    nu[escritas++] = w;
+                    marca[w] = u;
+                }
+                vecinas[u] = nu;
+                if (grado[u] != escritas) {
+                    grado[u] = escritas;
+                    cola.add(clave(escritas, u));
+                }
+            }
+            vecinas[v] = null;
+        }
+        
+        return orden;
+    }
+    
+    /**
+     * Grado mínimo aproximado (AMD) sobre el grafo cociente: las mallas
+     * eliminadas pasan a ser "elementos" que representan la clique de sus
+     * vecinas sin guardar sus aristas, y el grado de cada malla se acota con
+     * la fórmula de Amestoy, Davis y Duff en vez de calcularse exacto.
+     * Memoria O(nnz(A)) y mucho más rápido que gradoMinimo en grafos grandes,
+     * con un relleno muy parecido.
+     */
+    public static int[] gradoMinimoAproximado(MatrizCSR A) {
+        int n = A.getDimension();
+        int[][] variables = adyacencia(A);   // A_i: vecinas que siguen sin eliminar
+        int[] cantVariables = new int[n];
+        int[][] elementos = new int[n][];    // E_i: elementos adyacentes a i
+        int[] cantElementos = new int[n];
+        int[][] miembros = new int[n][];     // L_e: variables de cada elemento
+        int[] grado = new int[n];
+        boolean[] eliminada = new boolean[n];
+        boolean[] absorbido = new boolean[n];
+        int[] marca = new int[n];
+        int[] externo = new int[n];          // w(e) = |L_e \ L_p|, válido si marcaExterno[e] == k
+        int[] marcaExterno = new int[n];
+        Arrays.fill(marca, -1);
+        Arrays.fill(marcaExterno, -1);
+        
+        PriorityQueue<Long> cola = new PriorityQueue<>();
+        for (int i = 0; i < n; i++) {
+            cantVariables[i] = variables[i].length;
+            elementos[i] = new int[2];
+            grado[i] = cantVariables[i];
+            cola.add(clave(grado[i], i));
+        }
+        
+        int[] orden = new int[n];
+        int[] lp = new int[n];
+        for (int k = 0; k < n; k++) {
+            int p;
+            while (true) {
+                long c = cola.poll();
+                p = (int) c;
+                if (!eliminada[p] && (int) (c >>> 32) == grado[p]) break;
+            }
+            eliminada[p] = true;
+            orden[k] = p;
+            
+            // L_p = (A_p ∪ L_e de cada e ∈ E_p) \ {p}; los elementos de E_p quedan absorbidos
+            int cantLp = 0;
+            marca[p] = k;
+            for (int a = 0; a < cantVariables[p]; a++) {
+                int i = variables[p][a];
+                if (marca[i] != k && !eliminada[i]) {
+                    marca[i] = k;
+                    lp[cantLp++] = i;
+                }
+            }
+            for (int a = 0; a < cantElementos[p]; a++) {
+                int e = elementos[p][a];
+                if (absorbido[e]) continue;
+                for (int i : miembros[e]) {
+                    if (marca[i] != k && !eliminada[i]) {
+                        marca[i] = k;
+                        lp[cantLp++] = i;
+                    }
+                }
+                absorbido[e] = true;
+                miembros[e] = null;
+            }
+            miembros[p] = Arrays.copyOf(lp, cantLp);
+            variables[p] = null;
+            elementos[p] = null;
+            
+            // Actualizar A_i y E_i de cada i ∈ L_p y calcular |L_e \ L_p|
+            for (int a = 0; a < cantLp; a++) {
+                int i = lp[a];
+                int[] vi = variables[i];
+                int quedan = 0;
+                for (int b = 0; b < cantVariables[i]; b++) {
+                    int j = vi[b];
+                    // p ya es un elemento y las de L_p se alcanzan por él
+                    if (j != p && marca[j] != k && !eliminada[j]) vi[quedan++] = j;
+                }
+                cantVariables[i] = quedan;
+                
+                int[] ei = elementos[i];
+                int libres = 0;
+                for (int b = 0; b < cantElementos[i]; b++) {
+                    int e = ei[b];
+                    if (absorbido[e]) continue;
+                    ei[libres++] = e;
+                    if (marcaExterno[e] != k) {
+                        marcaExterno[e] = k;
+                        externo[e] = miembros[e].length;
+                    }
+                    externo[e]--;
+                }
+                if (libres == ei.length) ei = Arrays.copyOf(ei, 2 * ei.length);
+                ei[libres++] = p;
+                elementos[i] = ei;
+                cantElementos[i] = libres;
+            }
+            
+            // Cota de grado: min(restantes, d_i + |L_p \ i|, |A_i| + |L_p \ i| + Σ |L_e \ L_p|)
+            int restantes = n - k - 1;
+            for (int a = 0; a < cantLp; a++) {
+                int i = lp[a];
+                long suma = cantVariables[i] + (cantLp - 1);
+                for (int b = 0; b < cantElementos[i]; b++) {
+                    int e = elementos[i][b];
+                    if (e != p) suma += externo[e];
+                }
+                long cota = Math.min(restantes, Math.min((long) grado[i] + cantLp - 1, suma));
+                int nuevo = (int) Math.max(0, cota);
+                if (nuevo != grado[i]) {
+                    grado[i] = nuevo;
+                    cola.add(clave(nuevo, i));
+                }
+            }
+        }
+        
+        return orden;
+    }
+    
+    /**
+     * Cuthill-McKee inverso: recorrido en anchura desde un nodo pseudo-periférico
+     * de cada componente, visitando las vecinas de menor a mayor grado, y orden
+     * final invertido. Concentra los coeficientes cerca de la diagonal
+     * (reduce ancho de banda y envolvente). Costo O(nnz) por recorrido.
+     */
+    public static int[] cuthillMcKeeInverso(MatrizCSR A) {
+        int n = A.getDimension();
+        int[][] vecinas = adyacencia(A);
+        boolean[] visitada = new boolean[n];
+        int[] orden = new int[n];
+        int[] nivel = new int[n];
+        Arrays.fill(nivel, -1);
+        int[] cola = new int[n];
+        int cantidad = 0;
+        
+        for (int semilla = 0; semilla < n; semilla++) {
+            if (visitada[semilla]) continue;
+            int inicio = periferico(vecinas, semilla, nivel, cola);
+            
+            visitada[inicio] = true;
+            orden[cantidad++] = inicio;
+            for (int cabeza = cantidad - 1; cabeza < cantidad; cabeza++) {
+                int v = orden[cabeza];
+                int desde = cantidad;
+                for (int u : vecinas[v]) {
+                    if (!visitada[u]) {
+                        visitada[u] = true;
+                        orden[cantidad++] = u;
+                    }
+                }
+                // Las recién agregadas, de menor a mayor grado (inserción: suelen ser pocas)
+                for (int a = desde + 1; a < cantidad; a++) {
+                    int u = orden[a];
+                    int b = a - 1;
+                    while (b >= desde && vecinas[orden[b]].length > vecinas[u].length) {
+                        orden[b + 1] = orden[b];
+                        b--;
+                    }
+                    orden[b + 1] = u;
+                }
+            }
+        }
+        
+        for (int a = 0, b = n - 1; a < b; a++, b--) {
+            int t = orden[a];
+            orden[a] = orden[b];
+            orden[b] = t;
+        }
+        return orden;
+    }
+    
+    /**
+     * Nodo pseudo-periférico de la componente (George y Liu): se repite el
+     * recorrido desde el nodo de menor grado del último nivel mientras la
+     * excentricidad crezca
+     */
+    private static int periferico(int[][] vecinas, int inicio, int[] nivel, int[] cola) {
+        int raiz = inicio;
+        int excentricidad = -1;
+        while (true) {
+            int cantidad = niveles(vecinas, raiz, nivel, cola);
+            int ultimo = nivel[cola[cantidad - 1]];
+            int candidato = cola[cantidad - 1];
+            for (int a = cantidad - 1; a >= 0 && nivel[cola[a]] == ultimo; a--) {
+                if (vecinas[cola[a]].length < vecinas[candidato].length) candidato = cola[a];
+            }
+            for (int a = 0; a < cantidad; a++) nivel[cola[a]] = -1;
+            if (ultimo <= excentricidad) return raiz;
+            excentricidad = ultimo;
+            raiz = candidato;
+        }
+    }
+    
+    /**
+     * Recorrido en anchura que deja los nodos alcanzados en cola y su nivel en nivel[]
+     */
+    private static int niveles(int[][] vecinas, int raiz, int[] nivel, int[] cola) {
+        int cantidad = 0;
+        cola[cantidad++] = raiz;
+        nivel[raiz] = 0;
+        for (int cabeza = 0; cabeza < cantidad; cabeza++) {
+            int v = cola[cabeza];
+            for (int u : vecinas[v]) {
+                if (nivel[u] < 0) {
+                    nivel[u] = nivel[v] + 1;
+                    cola[cantidad++] = u;
+                }
+            }
+        }
+        return cantidad;
+    }
+    
+    /**
+     * Métricas del patrón simétrico de A bajo un orden de eliminación
+     */
+    public static final class Metricas {
+        private final int anchoBanda;
+        private final long envolvente;
+        private final long noNulosL;
+        
+        private Metricas(int anchoBanda, long envolvente, long noNulosL) {
+            this.anchoBanda = anchoBanda;
+            this.envolvente = envolvente;
+            this.noNulosL = noNulosL;
+        }
+        
+        /**
+         * Máxima distancia |i - j| entre mallas acopladas
+         */
+        public int getAnchoBanda() { return anchoBanda; }
+        
+        /**
+         * Suma por fila de la distancia a la primera columna no nula (perfil)
+         */
+        public long getEnvolvente() { return envolvente; }
+        
+        /**
+         * No nulos de L (con la diagonal) que dejaría la factorización sin pivoteo: el relleno previsto
+         */
+        public long getNoNulosL() { return noNulosL; }
+        
+        @Override
+        public String toString() {
+            return String.format("banda %d, envolvente %d, nnz(L) %d", anchoBanda, envolvente, noNulosL);
+        }
+    }
+    
+    /**
+     * Mide banda, envolvente y relleno de Cholesky/LU simbólico bajo el orden
+     * dado (null: orden natural). El relleno se cuenta con el árbol de
+     * eliminación recorriendo los subárboles de cada fila: O(nnz(L)).
+     */
+    public static Metricas medir(MatrizCSR A, int[] orden) {
+        int n = A.getDimension();
+        int[][] vecinas = adyacencia(A);
+        int[] posicion = orden != null ? inversa(orden) : null;
+        
+        int[] padre = new int[n];
+        int[] ancestro = new int[n];
+        int[] marca = new int[n];
+        int banda = 0;
+        long envolvente = 0;
+        long noNulos = n;
+        
+        for (int k = 0; k < n; k++) {
+            int v = orden != null ? orden[k] : k;
+            padre[k] = -1;
+            ancestro[k] = -1;
+            int primera = k;
+            for (int u : vecinas[v]) {
+                int r = posicion != null ? posicion[u] : u;
+                if (r >= k) continue;
+                banda = Math.max(banda, k - r);
+                primera = Math.min(primera, r);
+                // Árbol de eliminación con compresión de caminos (Liu)
+                while (r != -1 && r < k) {
+                    int siguiente = ancestro[r];
+                    ancestro[r] = k;
+                    if (siguiente == -1) {
+                        padre[r] = k;
+                        break;
+                    }
+                    r = siguiente;
+                }
+            }
+            envolvente += k - primera;
+            
+            // Fila k de L: la unión de los caminos en el árbol desde cada columna hasta k
+            marca[k] = k + 1;
+            for (int u : vecinas[v]) {
+                int r = posicion != null ? posicion[u] : u;
+                if (r >= k) continue;
+                while (marca[r] != k + 1) {
+                    noNulos++;
+                    marca[r] = k + 1;
+                    r = padre[r];
+                }
+            }
+        }
+        return new Metricas(banda, envolvente, noNulos);
+    }
+    
+    private static long clave(int grado, int nodo) {
+        return ((long) grado << 32) | nodo;
+    }
+    
+    /**
+     * Listas de vecinas del grafo de A + Aᵀ, sin la diagonal
+     */
+    static int[][] adyacencia(MatrizCSR A) {
+        int n = A.getDimension();
+        MatrizCSR T = A.transpuesta();
+        int[] filas = A.getFilas();
+        int[] columnas = A.getColumnas();
+        int[] filasT = T.getFilas();
+        int[] columnasT = T.getColumnas();
+        
+        int[][] vecinas = new int[n][];
+        int[] buffer = new int[n];
+        for (int i = 0; i < n; i++) {
+            // Unión de dos listas ordenadas: fila i de A y fila i de Aᵀ
+            int p = filas[i];
+            int q = filasT[i];
+            int cuenta = 0;
+            while (p < filas[i + 1] || q < filasT[i + 1]) {
+                int j;
+                if (q >= filasT[i + 1] || (p < filas[i + 1] && columnas[p] < columnasT[q])) {
+                    j = columnas[p++];
+                } else if (p >= filas[i + 1] || columnasT[q] < columnas[p]) {
+                    j = columnasT[q++];
+                } else {
+                    j = columnas[p++];
+                    q++;
+                }
+                if (j != i) buffer[cuenta++] = j;
+            }
+            vecinas[i] = Arrays.copyOf(buffer, cuenta);
+        }
+        return vecinas;
+    }
+    
+    /**
+     * Inversa de una permutación: posicion[orden[k]] = k
+     */
+    public static int[] inversa(int[] orden) {
+        int[] posicion = new int[orden.length];
+        for (int k = 0; k < orden.length; k++) {
+            posicion[orden[k]] = k;
+        }
+        return posicion;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,212 @@
+package metodos;
+
+import circuitos.Circuito;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Re-resolución incremental cuando cambian pocos componentes del circuito
+ * 
+ * Cambiar una resistencia modifica A en un término de rango 1: A' = A + u·vᵀ.
+ * Por Sherman-Morrison, A'⁻¹·y = A⁻¹·y - w·(vᵀ·A⁻¹·y) / (1 + vᵀ·w), con w = A⁻¹·u.
+ * Cada actualización cuesta O(n²) (una resolución con los factores ya
+ * calculados) en lugar de O(n³). Las actualizaciones se acumulan y, al llegar
+ * al máximo configurado, se refactoriza para no arrastrar error ni costo.
+ */
+public class ResolucionIncremental {
+    public static final int ACTUALIZACIONES_MAX_POR_DEFECTO = 16;
+    
+    private final int n;
+    private final double[][] coeficientes; // A vigente, para refactorizar
+    private final double[] terminosIndep;
+    private final int maxActualizaciones;
+    private Factorizacion base;
+    private final List<double[]> ws = new ArrayList<>();
+    private final List<double[]> vs = new ArrayList<>();
+    private final List<Double> alfas = new ArrayList<>();
+    private double[] solucion;
+    private int refactorizaciones;
+    
+    /**
+     * Factoriza el circuito y calcula la solución inicial
+     */
+    public ResolucionIncremental(Circuito circuito) {
+        this(circuito, FactorizacionLU.factorizar(circuito.getCoeficientes()), null,
+            ACTUALIZACIONES_MAX_POR_DEFECTO);
+    }
+    
+    /**
+     * Parte de una factorización y solución ya calculadas
+     * @param circuito Circuito al que corresponde la factorización (se copia A)
+     * @param factorizacion Factorización de los coeficientes actuales
+     * @param solucion Solución actual, o null para calcularla
+     * @param maxActualizaciones Actualizaciones acumuladas antes de refactorizar
+     */
+    public ResolucionIncremental(Circuito circuito, Factorizacion factorizacion, double[] solucion,
+                                 int maxActualizaciones) {
+        if (maxActualizaciones < 1) {
+            throw new IllegalArgumentException("Debe permitirse al menos una actualización");
+        }
+        this.n = circuito.getNumMallas();
+        double[][] A = circuito.getCoeficientes();
+        this.coeficientes = new double[n][];
+        for (int i = 0; i < n; i++) {
+            coeficientes[i] = A[i].clone();
+        }
+        this.terminosIndep = circuito.getTerminosIndep().clone();
+        this.maxActualizaciones = maxActualizaciones;
+        this.base = factorizacion;
+        this.solucion = solucion != null ? solucion.clone() : factorizacion.resolver(terminosIndep);
+    }
+    
+    /**
+     * Cambia una resistencia compartida por dos mallas (o propia de una malla si malla2 = -1)
+     * Suma deltaR en las diagonales y lo resta en los acoples: u = deltaR·(e₁ - e₂), v = e₁ - e₂
+     * @return las nuevas corrientes de malla
+     */
+    public double[] actualizarResistencia(int malla1, int malla2, double deltaR) {
+        double[] u = new double[n];
+        double[] v = new double[n];
+        u[malla1] = deltaR;
+        v[malla1] = 1.0;
+        if (malla2 >= 0) {
+            u[malla2] = -deltaR;
+            v[malla2] = -1.0;
+        }
+        return actualizarRango1(u, v);
+    }
+    
+    /**
+     * Suma delta al coeficiente (i, j): u = delta·eᵢ, v = eⱼ
+     * @return las nuevas corrientes de malla
+     */
+    public double[] actualizarEntrada(int i, int j, double delta) {
+        double[] u = new double[n];
+        double[] v = new double[n];
+        u[i] = delta;
+        v[j] = 1.0;
+        return actualizarRango1(u, v);
+    }
+    
+    /**
+     * Cambio de rango k: A' = A + U·Vᵀ, con U y V de n×k
+     * Equivale a Woodbury aplicado como k pasos de Sherman-Morrison: O(k·n²)
+     * @return las nuevas corrientes de malla
+     */
+    public double[] actualizar(double[][] U, double[][] V) {
+        int k = n > 0 ? U[0].length : 0;
+        double[] u = new double[n];
+        double[] v = new double[n];
+        for (int c = 0; c < k; c++) {
+            for (int i = 0; i < n; i++) {
+                u[i] = U[i][c];
+                v[i] = V[i][c];
+            }
+            actualizarRango1(u, v);
+        }
+        return getSolucion();
+    }
+    
+    /**
+     * A' = A + u·vᵀ
+     * @return las nuevas corrientes de malla
+     */
+    public double[] actualizarRango1(double[] u, double[] v) {
+        // Mantener A al día para poder refactorizar
+        for (int i = 0; i < n; i++) {
+            if (u[i] == 0.0) continue;
+            for (int j = 0; j < n; j++) {
+                coeficientes[i][j] += u[i] * v[j];
+            }
+        }
+        
+        if (ws.size() >= maxActualizaciones) {
+            refactorizar();
+            return getSolucion();
+        }
+        
+        double[] w = aplicarInversa(u);
+        double alfa = 1.0 + producto(v, w);
+        if (Math.abs(alfa) < 1e-12) {
+            // La fórmula pierde estabilidad: se factoriza la matriz nueva directamente
+            refactorizar();
+            return getSolucion();
+        }
+        
+        ws.add(w);
+        vs.add(v.clone());
+        alfas.add(alfa);
+        
+        // x' = x - w·(vᵀ·x) / alfa
+        double factor = producto(v, solucion) / alfa;
+        for (int i = 0; i < n; i++) {
+            solucion[i] -= factor * w[i];
+        }
+        return getSolucion();
+    }
+    
+    /**
+     * Resuelve A'·x = b con la matriz actual (O(n² + k·n))
+     */
+    public double[] resolver(double[] b) {
+        return aplicarInversa(b);
+    }
+    
+    /**
+     * A'⁻¹·y aplicando en orden las correcciones acumuladas sobre la factorización base
+     */
+    private double[] aplicarInversa(double[] y) {
+        double[] z = base.resolver(y);
+        for (int t = 0; t < ws.size(); t++) {
+            double[] w = ws.get(t);
+            double factor = producto(vs.get(t), z) / alfas.get(t);
+            for (int i = 0; i < n; i++) {
+                z[i] -= factor * w[i];
+            }
+        }
+        return z;
+    }
+    
+    /**
+     * Factoriza la matriz vigente y descarta las correcciones acumuladas
+     */
+    public void refactorizar() {
+        base = FactorizacionLU.factorizar(coeficientes);
+        ws.clear();
+        vs.clear();
+        alfas.clear();
+        solucion = base.resolver(terminosIndep);
+        refactorizaciones++;
+    }
+    
+    private static double producto(double[] a, double[] b) {
+        double sum = 0;
+        for (int i = 0; i < a.length; i++) {
+            sum += a[i] * b[i];
+        }
+        return sum;
+    }
+    
+    public double[] getSolucion() {
+        return solucion.clone();
+    }
+    
+    /**
+     * Coeficientes vigentes (copia), tras aplicar todas las actualizaciones
+     */
+    public double[][] getCoeficientes() {
+        double[][] copia = new double[n][];
+        for (int i = 0; i < n; i++) {
+            copia[i] = coeficientes[i].clone();
+        }
+        return copia;
+    }
+    
+    public int getActualizacionesPendientes() {
+        return ws.size();
+    }
+    
+    public int getRefactorizaciones() {
+        return refactorizaciones;
+    }
+}
\ No newline at end of file
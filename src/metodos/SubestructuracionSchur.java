@@ -0,0 +1,130 @@
+package metodos;
+
+import circuitos.Circuito;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Resolución por subestructuración con complemento de Schur
+ * 
+ * Para circuitos grandes y acoplados que no se separan en bloques
+ * independientes: reparte las mallas en k subdominios más una interfaz,
+ * factoriza los subdominios en paralelo y resuelve el sistema reducido de
+ * la interfaz (ver FactorizacionSchur). Cada subdominio es chico y disperso,
+ * así que su factorización entra en caché y escala con los núcleos.
+ */
+public class SubestructuracionSchur implements MetodoResolucion {
+    private Circuito circuito;
+    private double[] solucion;
+    private long tiempoEjecucion;
+    private EstadoMetodo estado;
+    private final int particiones;
+    private final ForkJoinPool pool;
+    private int tamanoInterfaz;
+    private int mayorSubdominio;
+    private int particionesUsadas;
+    
+    /**
+     * Una partición por hilo del pool común (al menos dos)
+     */
+    public SubestructuracionSchur() {
+        this(Math.max(2, ForkJoinPool.commonPool().getParallelism()), ForkJoinPool.commonPool());
+    }
+    
+    /**
+     * @param particiones Cantidad de subdominios
+     * @param pool Pool donde se factorizan y resuelven los subdominios
+     */
+    public SubestructuracionSchur(int particiones, ForkJoinPool pool) {
+        if (particiones < 1) {
+            throw new IllegalArgumentException("Se necesita al menos una partición: " + particiones);
+        }
+        this.particiones = particiones;
+        this.pool = pool;
+        this.estado = EstadoMetodo.LISTO;
+    }
+    
+    @Override
+    public String getNombre() {
+        return "Schur-" + particiones;
+    }
+    
+    @Override
+    public void setCircuito(Circuito circuito) {
+        this.circuito = circuito;
+        this.estado = EstadoMetodo.LISTO;
+    }
+    
+    @Override
+    public void run() {
+        if (circuito == null) {
+            System.err.println("[" + getNombre() + "] Error: Circuito no establecido");
+            estado = EstadoMetodo.ERROR;
+            return;
+        }
+        
+        System.out.println("[" + getNombre() + "] Iniciando resolución de: " + circuito.getNombre());
+        estado = EstadoMetodo.EJECUTANDO;
+        
+        long inicio = System.nanoTime();
+        try {
+            solucion = resolver(circuito);
+            tiempoEjecucion = (System.nanoTime() - inicio) / 1_000_000;
+            estado = EstadoMetodo.TERMINADO;
+            System.out.println("[" + getNombre() + "] Completado en " + tiempoEjecucion + " ms → " + getDetalle());
+        } catch (Exception e) {
+            estado = EstadoMetodo.ERROR;
+            System.err.println("[" + getNombre() + "] Error: " + e.getMessage());
+        }
+    }
+    
+    @Override
+    public double[] resolver(Circuito circuito) {
+        return factorizar(circuito).resolver(circuito.getTerminosIndep());
+    }
+    
+    /**
+     * Una sola factorización y k resoluciones
+     */
+    @Override
+    public double[][] resolverMultiple(Circuito circuito, double[][] B) {
+        MetodoResolucion.validarTerminos(B, circuito.getNumMallas());
+        return factorizar(circuito).resolverMultiple(B);
+    }
+    
+    private FactorizacionSchur factorizar(Circuito circuito) {
+        FactorizacionSchur f = FactorizacionSchur.factorizar(circuito.getCoeficientesDispersos(), particiones, pool);
+        particionesUsadas = f.getParticiones();
+        tamanoInterfaz = f.getTamanoInterfaz();
+        mayorSubdominio = f.getMayorSubdominio();
+        return f;
+    }
+    
+    /**
+     * Mallas de la interfaz en la última resolución
+     */
+    public int getTamanoInterfaz() {
+        return tamanoInterfaz;
+    }
+    
+    @Override
+    public String getDetalle() {
+        if (particionesUsadas == 0) return null;
+        return particionesUsadas + " subdominios (mayor: " + mayorSubdominio + " mallas), interfaz de "
+            + tamanoInterfaz + " mallas";
+    }
+    
+    @Override
+    public long getTiempoEjecucion() {
+        return tiempoEjecucion;
+    }
+    
+    @Override
+    public double[] getSolucion() {
+        return solucion;
+    }
+    
+    @Override
+    public EstadoMetodo getEstado() {
+        return estado;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,43 @@
+package monitores;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Mide los bytes asignados en el heap por el hilo actual
+ * Usa la extensión com.sun.management.ThreadMXBean (HotSpot/OpenJDK)
+ */
+public class MonitorAsignacion {
+    
+    private static final java.lang.management.ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+    
+    /**
+     * Indica si la JVM permite medir asignaciones por hilo
+     */
+    public static boolean estaDisponible() {
+        return threadBean instanceof com.sun.management.ThreadMXBean
+            && ((com.sun.management.ThreadMXBean) threadBean).isThreadAllocatedMemorySupported();
+    }
+    
+    /**
+     * Bytes asignados por el hilo actual desde que empezó
+     */
+    public static long bytesAsignados() {
+        com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) threadBean;
+        return bean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+    
+    /**
+     * Ejecuta la tarea y devuelve los bytes que asignó, descontando lo que
+     * asigna la propia medición
+     */
+    public static long medir(Runnable tarea) {
+        long base = bytesAsignados();
+        long costoMedicion = bytesAsignados() - base;
+        
+        long antes = bytesAsignados();
+        tarea.run();
+        long despues = bytesAsignados();
+        
+        return Math.max(0, despues - antes - costoMedicion);
+    }
+}
@@ -83,6 +83,10 @@ public class FCFS implements Planificador {
                 System.out.println("       - Tiempo de ejecución: " + metodo.getTiempoEjecucion() + " ms");
                 System.out.println("       - Tiempo de espera: " + tarea.getTiempoEspera() + " ms");
                 System.out.println("       - Tiempo de respuesta: " + tarea.getTiempoRespuesta() + " ms");
+                if (metodo.getDetalle() != null) {
+                    System.out.println("       - Decisión: " + metodo.getDetalle());
+                    metricas.agregarDecision(tarea + " " + metodo.getDetalle());
+                }
             } else {
                 System.out.println("[FCFS] ✗ Tarea falló");
             }
@@ -1,5 +1,8 @@
 package planificadores;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Clase para almacenar métricas de un planificador
  */
@@ -9,6 +12,7 @@ public class MetricasPlanificacion {
     private long tiempoRespuestaPromedio;
     private int tareasCompletadas;
     private int contextSwitches;
+    private List<String> decisiones;
     
     public MetricasPlanificacion() {
         this.tiempoTotal = 0;
@@ -16,6 +20,7 @@ public class MetricasPlanificacion {
         this.tiempoRespuestaPromedio = 0;
         this.tareasCompletadas = 0;
         this.contextSwitches = 0;
+        this.decisiones = new ArrayList<>();
     }
     
     // Getters y Setters
@@ -35,9 +40,16 @@ public class MetricasPlanificacion {
     public void setContextSwitches(int switches) { this.contextSwitches = switches; }
     public void incrementarContextSwitches() { this.contextSwitches++; }
     
+    public List<String> getDecisiones() { return decisiones; }
+    
+    /**
+     * Registra la decisión tomada por un método (ej. el motor que eligió el adaptativo)
+     */
+    public void agregarDecision(String decision) { this.decisiones.add(decision); }
+    
     @Override
     public String toString() {
-        return String.format(
+        String texto = String.format(
             "Métricas:\n" +
             "  - Tiempo Total: %d ms\n" +
             "  - Tiempo Espera Promedio: %d ms\n" +
@@ -47,5 +59,12 @@ public class MetricasPlanificacion {
             tiempoTotal, tiempoEsperaPromedio, tiempoRespuestaPromedio, 
             tareasCompletadas, contextSwitches
         );
+        if (!decisiones.isEmpty()) {
+            texto += "\n  - Decisiones:";
+            for (String decision : decisiones) {
+                texto += "\n      " + decision;
+            }
+        }
+        return texto;
     }
 }
\ No newline at end of file
@@ -1,6 +1,8 @@
 package planificadores;
 
 import metodos.MetodoResolucion;
+import metodos.PuntoControl;
+import metodos.Reanudable;
 import circuitos.Circuito;
 import java.util.LinkedList;
 import java.util.Queue;
@@ -14,6 +16,11 @@ import java.util.concurrent.*;
  * - Cada tarea recibe un quantum de tiempo
  * - Rota circularmente entre todas las tareas
  * - Bueno para fairness, evita inanición
+ * - Los métodos Reanudable guardan un punto de control al ser expropiados
+ *   y continúan desde él en el siguiente quantum
+ * - Si un reanudable tarda en llegar a su punto seguro no se lo espera más
+ *   de un quantum: sigue corriendo y se lo vuelve a esperar en su turno,
+ *   sin lanzar otra ejecución del mismo método
  */
 public class RoundRobin implements Planificador {
     
@@ -72,38 +79,52 @@ public class RoundRobin implements Planificador {
             }
             
             try {
-                Future<?> future = executor.submit(tarea.getMetodo());
+                MetodoResolucion metodo = tarea.getMetodo();
+                boolean terminada;
                 
-                try {
-                    // Esperar con timeout
-                    future.get(quantum, TimeUnit.MILLISECONDS);
+                if (tarea.getEjecucionPendiente() != null) {
+                    // Sigue corriendo desde el quantum anterior: esperar su punto seguro
+                    EjecucionQuantum ejecucion = tarea.getEjecucionPendiente();
+                    tarea.setEjecucionPendiente(null);
+                    terminada = esperarSuspension(tarea, ejecucion);
+                } else {
+                    if (tarea.getPuntoControl() != null) {
+                        ((Reanudable) metodo).restaurarPuntoControl(tarea.getPuntoControl());
+                        tarea.setPuntoControl(null);
+                    }
+                    
+                    EjecucionQuantum ejecucion = new EjecucionQuantum(metodo);
+                    Future<?> future = executor.submit(ejecucion);
                     
-                    // Terminó antes del quantum
+                    try {
+                        // Esperar con timeout
+                        future.get(quantum, TimeUnit.MILLISECONDS);
+                        terminada = true;
+                    } catch (TimeoutException e) {
+                        terminada = expropiar(tarea, ejecucion);
+                    }
+                }
+                
+                if (terminada) {
                     tarea.marcarCompletada();
                     tarea.setTiempoFin(System.currentTimeMillis());
                     
                     System.out.println("[RoundRobin] ✓ Completada: " + tarea);
-                    System.out.println("       - Tiempo: " + tarea.getMetodo().getTiempoEjecucion() + " ms");
+                    System.out.println("       - Tiempo: " + metodo.getTiempoEjecucion() + " ms");
                     System.out.println("       - Quantums: " + tarea.getQuantumsUsados());
+                    if (metodo.getDetalle() != null) {
+                        System.out.println("       - Decisión: " + metodo.getDetalle());
+                        metricas.agregarDecision(tarea + " " + metodo.getDetalle());
+                    }
                     
                     sumaEspera += tarea.getTiempoEspera();
                     sumaRespuesta += tarea.getTiempoRespuesta();
                     tareasCompletadas++;
-                    
-                } catch (TimeoutException e) {
-                    // ✓ MEJORADO: Cancelar el future
-                    boolean cancelado = future.cancel(true);  // true = interrumpir
-                    
-                    if (cancelado) {
-                        System.out.println("[RoundRobin] ⏱ Quantum agotado, interrumpida");
-                    } else {
-                        System.out.println("[RoundRobin] ⚠ No se pudo interrumpir (en punto no-cancelable)");
-                    }
-                    
+                } else {
                     tarea.incrementarQuantums();
                     
-                    // Límite de quantums (evitar loop infinito)
-                    if (tarea.getQuantumsUsados() > 10) {
+                    // Límite de quantums (evitar loop infinito); un método reanudable avanza en cada uno
+                    if (!suspendible(metodo) && tarea.getQuantumsUsados() > 10) {
                         System.out.println("[RoundRobin] ✗ Máximo de quantums excedido, descartando");
                         tareasCompletadas++;
                     } else {
@@ -111,7 +132,7 @@ public class RoundRobin implements Planificador {
                         System.out.println("[RoundRobin] Reencolada (quantum " + tarea.getQuantumsUsados() + ")");
                     }
                 }
-                
+            
             } catch (InterruptedException e) {
                 System.err.println("[RoundRobin] Interrumpida: " + e.getMessage());
                 Thread.currentThread().interrupt();
@@ -140,6 +161,71 @@ public class RoundRobin implements Planificador {
         mostrarResumen();
     }
     
+    /**
+     * Reanudable cuyo próximo run() revisa la interrupción
+     */
+    private static boolean suspendible(MetodoResolucion metodo) {
+        return metodo instanceof Reanudable && ((Reanudable) metodo).admiteSuspension();
+    }
+    
+    /**
+     * Quita la CPU a una tarea cuyo quantum venció
+     * 
+     * Los métodos reanudables se interrumpen y se espera a que lleguen a su
+     * próximo punto seguro; su punto de control queda guardado en la tarea.
+     * El resto también se interrumpe, pero repetirá el trabajo en el próximo quantum.
+     * 
+     * @return true si la tarea llegó a terminar antes de detenerse
+     */
+    private boolean expropiar(TareaRR tarea, EjecucionQuantum ejecucion) throws InterruptedException {
+        // No se cancela el Future: si el hilo no empezó, run() igual debe avisar el fin
+        ejecucion.expropiar();
+        return esperarSuspension(tarea, ejecucion);
+    }
+    
+    /**
+     * Espera, como mucho un quantum, a que una ejecución expropiada se detenga
+     * 
+     * Si no se detiene a tiempo queda pendiente en la tarea y se la vuelve a
+     * esperar en su próximo turno, así nunca corren dos run() del mismo método.
+     * 
+     * @return true si la tarea llegó a terminar antes de detenerse
+     */
+    private boolean esperarSuspension(TareaRR tarea, EjecucionQuantum ejecucion) throws InterruptedException {
+        MetodoResolucion metodo = tarea.getMetodo();
+        
+        if (!ejecucion.esperarFin(quantum)) {
+            tarea.setEjecucionPendiente(ejecucion);
+            System.out.println("[RoundRobin] ⏳ Sin detenerse en un quantum, se esperará en su próximo turno");
+            return false;
+        }
+        
+        if (!ejecucion.inicio()) {
+            // El quantum venció antes de que el hilo empezara: el punto de control
+            // restaurado (si había) sigue cargado en el método
+            System.out.println("[RoundRobin] ⏱ Quantum agotado antes de empezar");
+            return false;
+        }
+        
+        if (!suspendible(metodo)) {
+            if (metodo.getEstado() == MetodoResolucion.EstadoMetodo.TERMINADO) {
+                return true;
+            }
+            System.out.println("[RoundRobin] ⏱ Quantum agotado, interrumpida");
+            return false;
+        }
+        
+        if (metodo.getEstado() != MetodoResolucion.EstadoMetodo.SUSPENDIDO) {
+            // Llegó al final antes del siguiente punto seguro
+            return true;
+        }
+        
+        PuntoControl punto = ((Reanudable) metodo).extraerPuntoControl();
+        tarea.setPuntoControl(punto);
+        System.out.println("[RoundRobin] ⏸ Quantum agotado, suspendida en " + punto);
+        return false;
+    }
+    
     private void mostrarResumen() {
         System.out.println("=".repeat(60));
         System.out.println("RESUMEN DE EJECUCIÓN - " + getNombre());
@@ -171,6 +257,64 @@ public class RoundRobin implements Planificador {
     public long getQuantum() {
         return quantum;
     }
+    
+    /**
+     * Ejecución de un quantum que se puede interrumpir sin cancelar el Future,
+     * para saber cuándo el método terminó de guardar su estado
+     */
+    static class EjecucionQuantum implements Runnable {
+        private final MetodoResolucion metodo;
+        private final CountDownLatch fin = new CountDownLatch(1);
+        private Thread hilo;
+        private boolean expropiada;
+        private boolean iniciada;
+        
+        EjecucionQuantum(MetodoResolucion metodo) {
+            this.metodo = metodo;
+        }
+        
+        @Override
+        public void run() {
+            synchronized (this) {
+                if (expropiada) {
+                    // El quantum venció antes de que el hilo empezara
+                    fin.countDown();
+                    return;
+                }
+                hilo = Thread.currentThread();
+                iniciada = true;
+            }
+            try {
+                metodo.run();
+            } finally {
+                synchronized (this) {
+                    hilo = null;
+                }
+                fin.countDown();
+            }
+        }
+        
+        synchronized void expropiar() {
+            expropiada = true;
+            if (hilo != null) {
+                hilo.interrupt();
+            }
+        }
+        
+        /**
+         * @return false si no terminó dentro del plazo
+         */
+        boolean esperarFin(long milisegundos) throws InterruptedException {
+            return fin.await(milisegundos, TimeUnit.MILLISECONDS);
+        }
+        
+        /**
+         * Si el método llegó a ejecutarse (válido una vez terminada la ejecución)
+         */
+        synchronized boolean inicio() {
+            return iniciada;
+        }
+    }
 }
 
 /**
@@ -180,6 +324,7 @@ public class RoundRobin implements Planificador {
 class TareaRR extends Tarea {
     private int quantumsUsados;
     private boolean completada;
+    private RoundRobin.EjecucionQuantum ejecucionPendiente;
     
     public TareaRR(MetodoResolucion metodo, Circuito circuito) {
         super(metodo, circuito);
@@ -206,4 +351,15 @@ class TareaRR extends Tarea {
     public boolean estaCompletada() {
         return completada;
     }
+    
+    /**
+     * Ejecución expropiada que todavía no llegó a su punto seguro (null si no hay)
+     */
+    RoundRobin.EjecucionQuantum getEjecucionPendiente() {
+        return ejecucionPendiente;
+    }
+    
+    void setEjecucionPendiente(RoundRobin.EjecucionQuantum ejecucion) {
+        this.ejecucionPendiente = ejecucion;
+    }
 }
\ No newline at end of file
@@ -102,6 +102,10 @@ public class SJF implements Planificador {
                 System.out.println("       - Error: " + errorEstimacion + " ms");
                 System.out.println("       - Tiempo de espera: " + tarea.getTiempoEspera() + " ms");
                 System.out.println("       - Tiempo de respuesta: " + tarea.getTiempoRespuesta() + " ms");
+                if (metodo.getDetalle() != null) {
+                    System.out.println("       - Decisión: " + metodo.getDetalle());
+                    metricas.agregarDecision(tarea + " " + metodo.getDetalle());
+                }
             } else {
                 System.out.println("[SJF] ✗ Tarea falló");
             }
@@ -1,6 +1,9 @@
 package planificadores;
 
+import metodos.Cramer;
+import metodos.MetodoAdaptativo;
 import metodos.MetodoResolucion;
+import metodos.PuntoControl;
 import circuitos.Circuito;
 
 /**
@@ -13,6 +16,7 @@ public class Tarea {
     private long tiempoInicio;
     private long tiempoFin;
     private long tiempoEjecucionEstimado;
+    private PuntoControl puntoControl; // Trabajo parcial de un quantum expropiado
     
     public Tarea(MetodoResolucion metodo, Circuito circuito) {
         this.metodo = metodo;
@@ -33,10 +37,23 @@ public class Tarea {
         int numMallas = circuito.getNumMallas();
         
         // Estimaciones aproximadas en milisegundos
-        if (nombreMetodo.equals("Cramer")) {
-            // Cramer crece factorialmente
+        if (metodo instanceof MetodoAdaptativo) {
+            // Su modelo de costo ya está calibrado con tiempos medidos
+            return ((MetodoAdaptativo) metodo).estimarTiempo(circuito);
+        } else if (nombreMetodo.equals("Cramer")) {
+            Cramer.ModoDeterminante modo = metodo instanceof Cramer
+                ? ((Cramer) metodo).getModo() : Cramer.ModoDeterminante.COFACTORES;
+            if (modo == Cramer.ModoDeterminante.LU) {
+                // n+1 determinantes por LU: O(n⁴)
+                return (long) (Math.pow(numMallas, 4) * 0.01);
+            }
+            if (modo == Cramer.ModoDeterminante.COFACTORES_MEMOIZADO) {
+                // Menores memoizados: O(2ⁿ·n²) repartido en paralelo
+                return (long) (Math.pow(2, numMallas) * numMallas * numMallas * 1e-5);
+            }
+            // Cramer por cofactores crece factorialmente
             return (long) (Math.pow(2, numMallas) * 0.5);
-        } else if (nombreMetodo.equals("Gauss-Jordan")) {
+        } else if (nombreMetodo.startsWith("Gauss-Jordan")) {
             // O(n³)
             return (long) (Math.pow(numMallas, 3) * 0.1);
         } else {
@@ -57,6 +74,9 @@ public class Tarea {
     
     public long getTiempoEjecucionEstimado() { return tiempoEjecucionEstimado; }
     
+    public PuntoControl getPuntoControl() { return puntoControl; }
+    public void setPuntoControl(PuntoControl punto) { this.puntoControl = punto; }
+    
     public long getTiempoEspera() {
         return tiempoInicio - tiempoLlegada;
     }
@@ -0,0 +1,93 @@
+package simulacion;
+
+/**
+ * Capacitor o inductor en la rama que comparten dos mallas (o en una sola)
+ * 
+ * La corriente de la rama es i_a - i_b, con el sentido de la malla a.
+ * Guarda su estado (corriente y tensión del paso anterior) para el modelo
+ * equivalente: en cada paso la rama se comporta como una resistencia
+ * R_eq más una fuente de tensión v_hist que depende solo del pasado.
+ */
+public final class ElementoReactivo {
+    public static final int SIN_MALLA = -1;
+    
+    /**
+     * Tipos de elemento almacenador de energía
+     */
+    public enum Tipo {
+        CAPACITOR, // valor en faradios
+        INDUCTOR   // valor en henrios
+    }
+    
+    private final Tipo tipo;
+    private final int mallaA;
+    private final int mallaB;
+    private final double valor;
+    private double resistenciaEquivalente;
+    private double corriente;
+    private double tension;
+    
+    /**
+     * @param mallaB SIN_MALLA si el elemento pertenece solo a la malla a
+     */
+    ElementoReactivo(Tipo tipo, int mallaA, int mallaB, double valor) {
+        this.tipo = tipo;
+        this.mallaA = mallaA;
+        this.mallaB = mallaB;
+        this.valor = valor;
+    }
+    
+    /**
+     * Fija R_eq para el paso h y la regla dada
+     */
+    void discretizar(double h, MetodoIntegracion metodo) {
+        double factor = metodo == MetodoIntegracion.TRAPEZOIDAL ? 2.0 : 1.0;
+        resistenciaEquivalente = tipo == Tipo.INDUCTOR ? factor * valor / h : h / (factor * valor);
+    }
+    
+    /**
+     * Tensión de historia: v_n = R_eq · i_n + v_hist
+     * 
+     *   Euler inverso, inductor:  v_hist = -R_eq · i_{n-1}
+     *   Euler inverso, capacitor: v_hist = v_{n-1}
+     *   Trapezoidal, inductor:    v_hist = -(R_eq · i_{n-1} + v_{n-1})
+     *   Trapezoidal, capacitor:   v_hist = v_{n-1} + R_eq · i_{n-1}
+     */
+    double tensionHistoria(MetodoIntegracion metodo) {
+        if (tipo == Tipo.INDUCTOR) {
+            double v = -resistenciaEquivalente * corriente;
+            return metodo == MetodoIntegracion.TRAPEZOIDAL ? v - tension : v;
+        }
+        return metodo == MetodoIntegracion.TRAPEZOIDAL ? tension + resistenciaEquivalente * corriente : tension;
+    }
+    
+    /**
+     * Guarda el estado del paso recién resuelto
+     */
+    void actualizar(double[] corrientesMalla, double vHist) {
+        double i = corrientesMalla[mallaA] - (mallaB != SIN_MALLA ? corrientesMalla[mallaB] : 0.0);
+        corriente = i;
+        tension = resistenciaEquivalente * i + vHist;
+    }
+    
+    void reiniciar() {
+        corriente = 0.0;
+        tension = 0.0;
+    }
+    
+    public Tipo getTipo() { return tipo; }
+    public int getMallaA() { return mallaA; }
+    public int getMallaB() { return mallaB; }
+    public double getValor() { return valor; }
+    double getResistenciaEquivalente() { return resistenciaEquivalente; }
+    
+    /**
+     * Corriente de la rama en el último paso
+     */
+    public double getCorriente() { return corriente; }
+    
+    /**
+     * Tensión sobre el elemento en el último paso
+     */
+    public double getTension() { return tension; }
+}
\ No newline at end of file
@@ -0,0 +1,114 @@
+package simulacion;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Escribe las formas de onda a un CSV a medida que se simulan
+ * 
+ * Cada fila es "t,i_0,i_1,..." con las corrientes de las mallas elegidas.
+ * No guarda nada en memoria más allá del buffer, así que miles de pasos de
+ * circuitos grandes no crecen el heap; con cadaPasos > 1 se diezma la salida.
+ */
+public class EscritorFormaOnda implements AutoCloseable {
+    private static final int TAMANO_BUFFER = 1 << 20;
+    
+    private final Writer salida;
+    private final int[] mallas;
+    private final int cadaPasos;
+    private final StringBuilder linea = new StringBuilder(256);
+    private boolean encabezadoEscrito;
+    private long filasEscritas;
+    
+    /**
+     * Registra todas las mallas en cada paso
+     */
+    public EscritorFormaOnda(Path archivo) throws IOException {
+        this(archivo, null, 1);
+    }
+    
+    /**
+     * @param mallas Mallas a registrar (null para todas)
+     * @param cadaPasos Se escribe un paso de cada cadaPasos
+     */
+    public EscritorFormaOnda(Path archivo, int[] mallas, int cadaPasos) throws IOException {
+        this(new BufferedWriter(Files.newBufferedWriter(archivo, StandardCharsets.UTF_8), TAMANO_BUFFER),
+            mallas, cadaPasos);
+    }
+    
+    public EscritorFormaOnda(Writer salida, int[] mallas, int cadaPasos) {
+        if (cadaPasos < 1) {
+            throw new IllegalArgumentException("cadaPasos debe ser al menos 1: " + cadaPasos);
+        }
+        this.salida = salida;
+        this.mallas = mallas != null ? mallas.clone() : null;
+        this.cadaPasos = cadaPasos;
+    }
+    
+    /**
+     * Agrega la fila del paso si corresponde según el diezmado
+     */
+    public void registrar(long paso, double t, double[] corrientes) {
+        if (!encabezadoEscrito) {
+            escribirEncabezado(corrientes.length);
+        }
+        if (paso % cadaPasos != 0) return;
+        
+        linea.setLength(0);
+        linea.append(t);
+        if (mallas == null) {
+            for (double i : corrientes) {
+                linea.append(',').append(i);
+            }
+        } else {
+            for (int m : mallas) {
+                linea.append(',').append(corrientes[m]);
+            }
+        }
+        linea.append('\n');
+        escribir(linea);
+        filasEscritas++;
+    }
+    
+    private void escribirEncabezado(int n) {
+        linea.setLength(0);
+        linea.append('t');
+        if (mallas == null) {
+            for (int m = 0; m < n; m++) {
+                linea.append(",i_").append(m);
+            }
+        } else {
+            for (int m : mallas) {
+                if (m < 0 || m >= n) {
+                    throw new IllegalArgumentException("Malla fuera de rango: " + m);
+                }
+                linea.append(",i_").append(m);
+            }
+        }
+        linea.append('\n');
+        escribir(linea);
+        encabezadoEscrito = true;
+    }
+    
+    private void escribir(CharSequence texto) {
+        try {
+            salida.append(texto);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    public long getFilasEscritas() {
+        return filasEscritas;
+    }
+    
+    @Override
+    public void close() throws IOException {
+        salida.close();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,9 @@
+package simulacion;
+
+/**
+ * Regla de integración de los modelos equivalentes (companion models)
+ */
+public enum MetodoIntegracion {
+    EULER_INVERSO, // Orden 1, amortigua las oscilaciones espurias: robusto con pasos grandes
+    TRAPEZOIDAL    // Orden 2, conserva la energía: más exacto pero puede oscilar en transitorios bruscos
+}
\ No newline at end of file